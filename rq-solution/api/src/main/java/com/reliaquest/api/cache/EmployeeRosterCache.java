@@ -0,0 +1,342 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.metrics.EmployeeMetrics;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import com.reliaquest.api.utils.RequestCoalescer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.reliaquest.api.constants.EmployeeConstants.ROSTER_VERSION_HEADER;
+import static com.reliaquest.api.utils.HelperUtils.getEmployeeChangesAsync;
+import static com.reliaquest.api.utils.HelperUtils.getEmployeeListAsync;
+
+/**
+ * Read-through cache of the full upstream roster.
+ * <p>
+ * Reads are served from the current {@link RosterSnapshot} until it is {@code ttl} old. Once a snapshot enters the
+ * refresh-ahead window a background reload is started, so steady traffic never waits on the upstream. At most one
+ * reload is in flight at a time; concurrent readers of an expired snapshot share it. Creates and deletes patch the
+ * snapshot in place of a reload.
+ * <p>
+ * When {@code employee.cache.snapshot-file} is set, each loaded roster is also written to disk (see
+ * {@link RosterSnapshotFile}). A restarted instance restores it, serves reads from it right away (flagged as stale)
+ * and replaces it with a background reload, instead of making its first callers wait on the upstream. A restored
+ * snapshot is held to the same {@code max-stale} limit as any other, measured from when it was originally loaded.
+ * <p>
+ * After a failed reload, neither readers nor background refreshes call the upstream again for {@code refresh-ahead};
+ * readers get the stale snapshot in the meantime, if there is one.
+ * <p>
+ * Once a roster has been loaded, reloads ask the upstream's change feed for what happened since its version and apply
+ * only that ({@code employee.cache.incremental}). When the feed cannot answer, the whole roster is fetched again, with
+ * the ETag of the last one as {@code If-None-Match}; a 304 only moves the current snapshot's load time forward.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final WebClient webClient;
+    private final String baseUrl;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration maxStale;
+    private final Clock clock;
+    private final RosterSnapshotFile snapshotFile;
+    private final Duration snapshotMaxAge;
+    private final boolean incremental;
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+    private final RequestCoalescer loads = new RequestCoalescer();
+    private final AtomicLong mutations = new AtomicLong();
+    private final AtomicBoolean forceReload = new AtomicBoolean();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicBoolean restored = new AtomicBoolean();
+
+    /**
+     * No reload is attempted before this instant unless there is no snapshot to serve; set when a reload fails.
+     */
+    private volatile Instant retryNotBefore = Instant.MIN;
+
+    /**
+     * Validator of the last full roster received from the upstream, sent back as {@code If-None-Match} on reloads.
+     */
+    private volatile String rosterETag;
+
+    /**
+     * Upstream roster version the current snapshot is in sync with, from {@code X-Roster-Version} or the change feed.
+     */
+    private volatile long upstreamVersion = UNKNOWN_VERSION;
+
+    @Autowired
+    public EmployeeRosterCache(WebClient webClient,
+                               @Value("${employee.server.base-url}") String baseUrl,
+                               @Value("${employee.cache.ttl:30s}") Duration ttl,
+                               @Value("${employee.cache.refresh-ahead:10s}") Duration refreshAhead,
+                               @Value("${employee.cache.max-stale:10m}") Duration maxStale,
+                               @Value("${employee.cache.snapshot-file:}") String snapshotFile,
+                               @Value("${employee.cache.snapshot-max-age:1h}") Duration snapshotMaxAge,
+                               @Value("${employee.cache.incremental:true}") boolean incremental,
+                               EmployeeMetrics metrics) {
+        this(webClient, baseUrl, ttl, refreshAhead, maxStale,
+                snapshotFile.isBlank() ? null : new RosterSnapshotFile(Path.of(snapshotFile)), snapshotMaxAge,
+                incremental, Clock.systemUTC());
+        metrics.registerHitRatio("roster", hits, misses);
+    }
+
+    EmployeeRosterCache(WebClient webClient, String baseUrl, Duration ttl, Duration refreshAhead, Duration maxStale,
+                        RosterSnapshotFile snapshotFile, Duration snapshotMaxAge, boolean incremental, Clock clock) {
+        if (refreshAhead.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("employee.cache.refresh-ahead must be shorter than employee.cache.ttl");
+        }
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.maxStale = maxStale;
+        this.snapshotFile = snapshotFile;
+        this.snapshotMaxAge = snapshotMaxAge;
+        this.incremental = incremental;
+        this.clock = clock;
+    }
+
+    /**
+     * Restores the roster persisted by a previous run, if there is one younger than {@code snapshot-max-age}.
+     */
+    @PostConstruct
+    void restore() {
+        if (snapshotFile == null) {
+            return;
+        }
+        Optional<RosterSnapshot> persisted = snapshotFile.read();
+        if (persisted.isEmpty()) {
+            return;
+        }
+        RosterSnapshot snapshot = persisted.get();
+        if (snapshot.isExpired(snapshotMaxAge, clock.instant())) {
+            log.info("Ignoring roster snapshot v{} from {}: older than {}", snapshot.version(), snapshot.loadedAt(),
+                    snapshotMaxAge);
+            return;
+        }
+        if (current.compareAndSet(null, snapshot)) {
+            restored.set(true);
+            log.info("Restored roster snapshot v{} with {} employees loaded at {} from {}", snapshot.version(),
+                    snapshot.employees().size(), snapshot.loadedAt(), snapshotFile.path());
+        }
+    }
+
+    /**
+     * Persists the current roster so that the next start can restore it, including any creates and deletes applied
+     * since the last load.
+     */
+    @PreDestroy
+    synchronized void persist() {
+        RosterSnapshot snapshot = current.get();
+        if (snapshotFile == null || snapshot == null || restored.get()) {
+            return;
+        }
+        try {
+            snapshotFile.write(snapshot);
+            log.debug("Persisted roster snapshot v{} to {}", snapshot.version(), snapshotFile.path());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not persist roster snapshot to {}: {}", snapshotFile.path(), e.toString());
+        }
+    }
+
+    /**
+     * Returns a snapshot that is younger than the TTL, loading it from the upstream if needed. Blocks the caller.
+     */
+    public RosterSnapshot getSnapshot() {
+        return snapshot().block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getSnapshot()}. If the upstream cannot be reached, an expired snapshot is
+     * returned instead of an error for up to {@code max-stale} past its TTL (stale-while-revalidate). Whenever a stale
+     * or restored snapshot is returned, the {@link StaleDataMarker} in the subscriber's context is raised.
+     */
+    public Mono<RosterSnapshot> snapshot() {
+        RosterSnapshot snapshot = current.get();
+        Instant now = clock.instant();
+        if (snapshot != null && restored.get() && !forceReload.get() && peekStale().isPresent()) {
+            hits.incrementAndGet();
+            refreshInBackground();
+            return StaleDataMarker.stale(snapshot);
+        }
+        if (snapshot == null || forceReload.get() || snapshot.isExpired(ttl, now)) {
+            misses.incrementAndGet();
+            if (now.isBefore(retryNotBefore)) {
+                Optional<RosterSnapshot> stale = peekStale();
+                if (stale.isPresent()) {
+                    return StaleDataMarker.stale(stale.get());
+                }
+            }
+            return load().onErrorResume(this::staleFallback);
+        }
+        hits.incrementAndGet();
+        if (snapshot.shouldRefresh(ttl, refreshAhead, now)) {
+            refreshInBackground();
+        }
+        return Mono.just(snapshot);
+    }
+
+    /**
+     * Returns the current snapshot only if it is still fresh; never calls the upstream.
+     */
+    public Optional<RosterSnapshot> peek() {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null || forceReload.get() || snapshot.isExpired(ttl, clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Returns the last loaded snapshot, even past its TTL, as long as it is within {@code max-stale}. A snapshot
+     * restored from disk counts from when it was originally loaded, not from when it was restored.
+     */
+    public Optional<RosterSnapshot> peekStale() {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null || snapshot.isExpired(ttl.plus(maxStale), clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public void onEmployeeCreated(Employee employee) {
+        mutations.incrementAndGet();
+        current.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withCreated(employee));
+    }
+
+    public void onEmployeeDeleted(String id) {
+        mutations.incrementAndGet();
+        current.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withDeleted(id));
+    }
+
+    public void invalidate() {
+        forceReload.set(true);
+    }
+
+    private void refreshInBackground() {
+        // The load is shared, so readers that keep landing here do not start further reloads, and after a failure
+        // none is started again until retryNotBefore.
+        if (clock.instant().isBefore(retryNotBefore)) {
+            return;
+        }
+        load().subscribe(ignored -> { }, e ->
+                log.warn("Background roster refresh failed, serving cached roster until it expires: {}", e.getMessage()));
+    }
+
+    private Mono<RosterSnapshot> load() {
+        return loads.coalesce("roster", () -> reload()
+                .doOnError(e -> retryNotBefore = clock.instant().plus(refreshAhead)));
+    }
+
+    private Mono<RosterSnapshot> staleFallback(Throwable error) {
+        Optional<RosterSnapshot> stale = peekStale();
+        if (stale.isEmpty()) {
+            return Mono.error(error);
+        }
+        log.warn("Roster refresh failed, serving stale snapshot v{} loaded at {}: {}", stale.get().version(),
+                stale.get().loadedAt(), error.getMessage());
+        return StaleDataMarker.stale(stale.get());
+    }
+
+    private Mono<RosterSnapshot> reload() {
+        forceReload.set(false);
+        long mutationsBefore = mutations.get();
+        long since = current.get() == null || restored.get() ? UNKNOWN_VERSION : upstreamVersion;
+        if (!incremental || since == UNKNOWN_VERSION) {
+            return fullReload(mutationsBefore);
+        }
+        return getEmployeeChangesAsync(webClient, baseUrl + "/changes?since=" + since)
+                .flatMap(changes -> {
+                    if (changes == null || changes.isResync() || current.get() == null) {
+                        log.info("Upstream cannot serve roster changes since v{}, reloading the whole roster.", since);
+                        return fullReload(mutationsBefore);
+                    }
+                    return Mono.just(applyChanges(changes, mutationsBefore));
+                })
+                .onErrorResume(e -> {
+                    log.warn("Could not fetch roster changes since v{}, reloading the whole roster: {}", since,
+                            e.getMessage());
+                    return fullReload(mutationsBefore);
+                });
+    }
+
+    private RosterSnapshot applyChanges(EmployeeChangesResponse.Changes changes, long mutationsBefore) {
+        RosterSnapshot previous = current.get();
+        List<EmployeeChangesResponse.Change> delta = changes.getChanges() == null ? List.of() : changes.getChanges();
+        RosterSnapshot loaded = previous.withChanges(delta, clock.instant());
+        upstreamVersion = changes.getVersion();
+        log.info("Applied {} upstream roster changes up to v{}, snapshot v{} with {} employees.", delta.size(),
+                changes.getVersion(), loaded.version(), loaded.employees().size());
+        return publish(loaded, loaded.version() != previous.version(), mutationsBefore);
+    }
+
+    private Mono<RosterSnapshot> fullReload(long mutationsBefore) {
+        RosterSnapshot base = current.get();
+        String eTag = base == null || restored.get() ? null : rosterETag;
+        return getEmployeeListAsync(webClient, baseUrl, eTag).map(response -> {
+            RosterSnapshot previous = current.get();
+            if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && previous != null) {
+                RosterSnapshot loaded = previous.revalidated(clock.instant());
+                log.info("Roster unchanged upstream ({}), revalidated snapshot v{}.", eTag, loaded.version());
+                return publish(loaded, false, mutationsBefore);
+            }
+            List<Employee> employees = response.getBody() == null ? List.of() : response.getBody().getData();
+            long version = previous == null ? 1 : previous.version() + 1;
+            RosterSnapshot loaded = RosterSnapshot.of(version, employees, clock.instant());
+            rosterETag = response.getHeaders().getETag();
+            upstreamVersion = parseVersion(response.getHeaders().getFirst(ROSTER_VERSION_HEADER));
+            log.info("Loaded roster snapshot v{} with {} employees.", loaded.version(), loaded.employees().size());
+            return publish(loaded, true, mutationsBefore);
+        });
+    }
+
+    private RosterSnapshot publish(RosterSnapshot loaded, boolean changed, long mutationsBefore) {
+        current.set(loaded);
+        restored.set(false);
+        if (mutations.get() != mutationsBefore) {
+            // A create or delete raced with the fetch; the loaded list may or may not include it, so make the
+            // next read go back to the upstream instead of trusting this copy for a full TTL.
+            forceReload.set(true);
+        }
+        if (changed && snapshotFile != null) {
+            Schedulers.boundedElastic().schedule(this::persist);
+        }
+        return loaded;
+    }
+
+    private static long parseVersion(String header) {
+        if (header == null) {
+            return UNKNOWN_VERSION;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return UNKNOWN_VERSION;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.index.IdIndex;
+import com.reliaquest.api.index.NameIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of the upstream roster at a point in time. Writes never mutate a published snapshot; they derive a
+ * new one with a bumped version so readers always see a consistent list. Derived indexes are built once per full
+ * load and carried forward incrementally.
+ */
+public record RosterSnapshot(long version, List<Employee> employees, IdIndex employeesById,
+                             SalaryIndex salaryIndex, NameIndex nameIndex, Instant loadedAt) {
+
+    /**
+     * Each patched change copies the whole salary index, one id-index shard and the name-index shards and posting
+     * lists the name touches, so past this many a rebuild is cheaper.
+     */
+    private static final int MAX_PATCHED_CHANGES = 32;
+
+    public static RosterSnapshot of(long version, List<Employee> employees, Instant loadedAt) {
+        List<Employee> copy = new ArrayList<>(employees);
+        return new RosterSnapshot(version, Collections.unmodifiableList(copy), IdIndex.build(copy),
+                SalaryIndex.build(copy), NameIndex.build(copy), loadedAt);
+    }
+
+    public Optional<Employee> findById(String id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    /**
+     * Returns the employees whose name matches {@code query}, in roster order.
+     */
+    public List<Employee> searchByName(String query, boolean ignoreCase, boolean prefix) {
+        List<Employee> candidates = nameIndex.candidates(query, prefix).orElse(employees);
+        List<Employee> matches = new ArrayList<>();
+        for (Employee employee : candidates) {
+            if (NameIndex.matches(employee.getEmployee_name(), query, ignoreCase, prefix)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    public boolean isExpired(Duration ttl, Instant now) {
+        return !loadedAt.plus(ttl).isAfter(now);
+    }
+
+    public boolean shouldRefresh(Duration ttl, Duration refreshAhead, Instant now) {
+        return !loadedAt.plus(ttl).minus(refreshAhead).isAfter(now);
+    }
+
+    /**
+     * The same roster, confirmed unchanged upstream at {@code now}; the indexes are carried over as is.
+     */
+    RosterSnapshot revalidated(Instant now) {
+        return new RosterSnapshot(version, employees, employeesById, salaryIndex, nameIndex, now);
+    }
+
+    RosterSnapshot withCreated(Employee employee) {
+        if (employeesById.contains(employee.getId())) {
+            // Already published by a change-feed refresh that overtook the create's response.
+            return this;
+        }
+        List<Employee> copy = new ArrayList<>(employees.size() + 1);
+        copy.addAll(employees);
+        copy.add(employee);
+        return new RosterSnapshot(version + 1, Collections.unmodifiableList(copy), employeesById.with(employee),
+                salaryIndex.with(employee), nameIndex.with(employee), loadedAt);
+    }
+
+    RosterSnapshot withDeleted(String id) {
+        Employee deleted = employeesById.get(id);
+        if (deleted == null) {
+            return this;
+        }
+        List<Employee> copy = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (!id.equals(employee.getId())) {
+                copy.add(employee);
+            }
+        }
+        return new RosterSnapshot(version + 1, Collections.unmodifiableList(copy), employeesById.without(id),
+                salaryIndex.without(deleted), nameIndex.without(deleted), loadedAt);
+    }
+
+    /**
+     * Applies upstream creates and deletes, oldest first. Changes already reflected here (such as this instance's own
+     * writes, patched in when they were made) are skipped, so replaying a feed that overlaps them is harmless. A
+     * large batch rebuilds the indexes instead of patching them one employee at a time.
+     */
+    RosterSnapshot withChanges(List<EmployeeChangesResponse.Change> changes, Instant now) {
+        Map<String, Employee> added = new LinkedHashMap<>();
+        Map<String, Employee> removed = new HashMap<>();
+        for (EmployeeChangesResponse.Change change : changes) {
+            Employee employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                continue;
+            }
+            String id = employee.getId();
+            if (EmployeeChangesResponse.Change.CREATED.equals(change.getType())) {
+                // An id deleted earlier in this feed is free again, even though this snapshot still holds it.
+                if (removed.containsKey(id) || !employeesById.contains(id)) {
+                    added.put(id, employee);
+                }
+            } else if (EmployeeChangesResponse.Change.DELETED.equals(change.getType())) {
+                if (added.remove(id) == null && employeesById.contains(id)) {
+                    removed.put(id, employeesById.get(id));
+                }
+            }
+        }
+        if (added.isEmpty() && removed.isEmpty()) {
+            return revalidated(now);
+        }
+        List<Employee> copy = new ArrayList<>(employees.size() + added.size());
+        for (Employee employee : employees) {
+            if (!removed.containsKey(employee.getId())) {
+                copy.add(employee);
+            }
+        }
+        copy.addAll(added.values());
+        if (added.size() + removed.size() > MAX_PATCHED_CHANGES) {
+            return of(version + 1, copy, now);
+        }
+        IdIndex byId = employeesById;
+        SalaryIndex salaries = salaryIndex;
+        NameIndex names = nameIndex;
+        for (Employee employee : removed.values()) {
+            byId = byId.without(employee.getId());
+            salaries = salaries.without(employee);
+            names = names.without(employee);
+        }
+        for (Employee employee : added.values()) {
+            byId = byId.with(employee);
+            salaries = salaries.with(employee);
+            names = names.with(employee);
+        }
+        return new RosterSnapshot(version + 1, Collections.unmodifiableList(copy), byId, salaries, names, now);
+    }
+}
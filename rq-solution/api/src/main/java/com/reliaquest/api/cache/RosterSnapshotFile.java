@@ -0,0 +1,169 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary copy of a {@link RosterSnapshot} on local disk, so a restarted API can serve its last known roster
+ * before the first upstream call completes.
+ * <p>
+ * Layout, big-endian: magic {@code RQRS}, format version, roster version, load time (epoch millis) and employee count,
+ * then per employee the id, name, title and email as length-prefixed UTF-8 (length -1 for null) and salary and age
+ * ({@link Integer#MIN_VALUE} for null), and finally a CRC32 of everything before it. Files are read through a
+ * read-only memory mapping and replaced atomically on write, so a crash mid-write never leaves a torn file behind.
+ * Anything unexpected (wrong magic or format, bad checksum, truncation) makes {@link #read()} return empty.
+ */
+@Slf4j
+class RosterSnapshotFile {
+
+    static final int MAGIC = 0x52515253;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_NUMBER = Integer.MIN_VALUE;
+    private static final int TRAILER_BYTES = Long.BYTES;
+
+    private final Path path;
+
+    RosterSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    Optional<RosterSnapshot> read() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                log.warn("Ignoring roster snapshot {}: {} bytes is too large", path, channel.size());
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable roster snapshot {}: {}", path, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    void write(RosterSnapshot snapshot) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(snapshot.version());
+                out.writeLong(snapshot.loadedAt().toEpochMilli());
+                out.writeInt(snapshot.employees().size());
+                for (Employee employee : snapshot.employees()) {
+                    writeString(out, employee.getId());
+                    writeString(out, employee.getEmployee_name());
+                    writeString(out, employee.getEmployee_title());
+                    writeString(out, employee.getEmployee_email());
+                    out.writeInt(employee.getEmployee_salary() == null ? NULL_NUMBER : employee.getEmployee_salary());
+                    out.writeInt(employee.getEmployee_age() == null ? NULL_NUMBER : employee.getEmployee_age());
+                }
+                out.flush();
+                // Not through the checked stream: the checksum covers everything before it.
+                new DataOutputStream(file).writeLong(crc.getValue());
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Optional<RosterSnapshot> decode(ByteBuffer buffer) {
+        if (buffer.remaining() < TRAILER_BYTES || buffer.getInt(0) != MAGIC) {
+            log.warn("Ignoring roster snapshot {}: not a roster snapshot file", path);
+            return Optional.empty();
+        }
+        int bodyLength = buffer.limit() - TRAILER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(bodyLength));
+        if (crc.getValue() != buffer.getLong(bodyLength)) {
+            log.warn("Ignoring roster snapshot {}: checksum mismatch", path);
+            return Optional.empty();
+        }
+        ByteBuffer body = buffer.duplicate().limit(bodyLength);
+        body.getInt();
+        int format = body.getInt();
+        if (format != FORMAT_VERSION) {
+            log.warn("Ignoring roster snapshot {}: format version {} is not supported", path, format);
+            return Optional.empty();
+        }
+        long version = body.getLong();
+        Instant loadedAt = Instant.ofEpochMilli(body.getLong());
+        int count = body.getInt();
+        if (count < 0) {
+            throw new BufferUnderflowException();
+        }
+        List<Employee> employees = new ArrayList<>(Math.min(count, body.remaining()));
+        for (int i = 0; i < count; i++) {
+            String id = readString(body);
+            String name = readString(body);
+            String title = readString(body);
+            String email = readString(body);
+            Integer salary = readNumber(body);
+            Integer age = readNumber(body);
+            employees.add(new Employee(id, name, salary, age, title, email));
+        }
+        return Optional.of(RosterSnapshot.of(version, employees, loadedAt));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readNumber(ByteBuffer buffer) {
+        int value = buffer.getInt();
+        return value == NULL_NUMBER ? null : value;
+    }
+}
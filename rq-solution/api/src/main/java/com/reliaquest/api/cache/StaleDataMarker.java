@@ -0,0 +1,40 @@
+package com.reliaquest.api.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Per-request flag raised when any part of a response was answered from a stale roster because the upstream could not
+ * be reached. A caller puts a fresh marker in the Reactor context of the read with {@link #into(Context)}; the stale
+ * fallbacks raise whatever marker they find there, so the flag describes that one response and nothing else.
+ */
+public final class StaleDataMarker {
+
+    private volatile boolean stale;
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public Context into(Context context) {
+        return context.put(StaleDataMarker.class, this);
+    }
+
+    /**
+     * Raises the marker of the read {@code context} belongs to, if it carries one.
+     */
+    public static void markStale(ContextView context) {
+        context.<StaleDataMarker>getOrEmpty(StaleDataMarker.class).ifPresent(marker -> marker.stale = true);
+    }
+
+    /**
+     * Emits {@code value} as a stale result, raising the marker of whoever subscribes.
+     */
+    public static <T> Mono<T> stale(T value) {
+        return Mono.deferContextual(context -> {
+            markStale(context);
+            return Mono.just(value);
+        });
+    }
+}
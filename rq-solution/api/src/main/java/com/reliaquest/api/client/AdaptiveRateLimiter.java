@@ -0,0 +1,175 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.CustomRateLimitedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static com.reliaquest.api.constants.EmployeeConstants.TOO_MANY_REQUEST_EXCEPTION_MSG;
+
+/**
+ * Client-side token bucket in front of the upstream that learns the server's request budget (AIMD).
+ * <p>
+ * Every successful response raises the permitted rate by a fixed step; a 429 halves it and drains the bucket, and an
+ * upstream {@code Retry-After} pauses all calls until it has passed. The burst capacity follows the rate (one second
+ * worth of permits, capped), so a recovering client does not immediately fire a large burst into the next window.
+ * Requests wait for their permit without holding a thread; a request whose wait would exceed {@code max-wait} fails
+ * fast with {@link CustomRateLimitedException}, which the API answers with a 429 and a {@code Retry-After}.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final double minRate;
+    private final double maxRate;
+    private final double maxBurst;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final Duration maxWait;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastDecreaseNanos;
+    private long pausedUntilNanos;
+
+    @Autowired
+    public AdaptiveRateLimiter(@Value("${employee.client.rate-limit.enabled:true}") boolean enabled,
+                               @Value("${employee.client.rate-limit.initial-rate:5}") double initialRate,
+                               @Value("${employee.client.rate-limit.min-rate:0.2}") double minRate,
+                               @Value("${employee.client.rate-limit.max-rate:50}") double maxRate,
+                               @Value("${employee.client.rate-limit.max-burst:10}") double maxBurst,
+                               @Value("${employee.client.rate-limit.increase-step:0.5}") double increaseStep,
+                               @Value("${employee.client.rate-limit.decrease-factor:0.5}") double decreaseFactor,
+                               @Value("${employee.client.rate-limit.max-wait:30s}") Duration maxWait) {
+        this(enabled, initialRate, minRate, maxRate, maxBurst, increaseStep, decreaseFactor, maxWait, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(boolean enabled, double initialRate, double minRate, double maxRate, double maxBurst,
+                        double increaseStep, double decreaseFactor, Duration maxWait, LongSupplier nanoClock) {
+        if (minRate <= 0 || minRate > maxRate || decreaseFactor <= 0 || decreaseFactor >= 1 || maxBurst < 1) {
+            throw new IllegalArgumentException("Invalid employee.client.rate-limit configuration");
+        }
+        this.enabled = enabled;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.maxBurst = maxBurst;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.maxWait = maxWait;
+        this.nanoClock = nanoClock;
+        this.rate = Math.min(maxRate, Math.max(minRate, initialRate));
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.lastDecreaseNanos = lastRefillNanos - NANOS_PER_SECOND;
+        this.pausedUntilNanos = lastRefillNanos;
+        this.tokens = burst();
+    }
+
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            if (!enabled) {
+                return next.exchange(request);
+            }
+            return Mono.defer(() -> {
+                Duration delay;
+                try {
+                    delay = reserve();
+                } catch (CustomRateLimitedException e) {
+                    log.warn("Upstream request budget exhausted, rejecting {} {}", request.method(), request.url());
+                    return Mono.error(e);
+                }
+                Mono<ClientResponse> exchange = next.exchange(request).doOnNext(this::record);
+                return delay.isZero() ? exchange : Mono.delay(delay).then(exchange);
+            });
+        };
+    }
+
+    /**
+     * Takes a permit and returns how long the caller must wait before using it.
+     *
+     * @throws CustomRateLimitedException if that wait would exceed {@code max-wait}; no permit is taken
+     */
+    synchronized Duration reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long waitNanos = Math.max(0, pausedUntilNanos - now);
+        double shortfall = 1 - tokens;
+        if (shortfall > 0) {
+            waitNanos += (long) (shortfall / rate * NANOS_PER_SECOND);
+        }
+        if (waitNanos > maxWait.toNanos()) {
+            throw new CustomRateLimitedException(TOO_MANY_REQUEST_EXCEPTION_MSG, Duration.ofNanos(waitNanos));
+        }
+        tokens -= 1;
+        return Duration.ofNanos(waitNanos);
+    }
+
+    synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    synchronized void onThrottled(Duration retryAfter) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        // A burst of 429s from one window counts as a single congestion signal.
+        if (now - lastDecreaseNanos >= NANOS_PER_SECOND) {
+            rate = Math.max(minRate, rate * decreaseFactor);
+            lastDecreaseNanos = now;
+            log.warn("Upstream throttled us, lowering request rate to {}/s", String.format("%.2f", rate));
+        }
+        tokens = Math.min(tokens, 0);
+        if (retryAfter != null) {
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+        }
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    private void record(ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            onThrottled(retryAfter(response).orElse(null));
+        } else if (!response.statusCode().isError()) {
+            onSuccess();
+        }
+    }
+
+    private void refill(long now) {
+        long elapsed = Math.max(0, now - Math.max(lastRefillNanos, pausedUntilNanos));
+        tokens = Math.min(burst(), tokens + rate * elapsed / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+
+    private double burst() {
+        return Math.max(1, Math.min(maxBurst, rate));
+    }
+
+    private static Optional<Duration> retryAfter(ClientResponse response) {
+        String value = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            // HTTP-date form is not used by our upstream; fall back to the AIMD back-off alone.
+            return Optional.empty();
+        }
+    }
+}
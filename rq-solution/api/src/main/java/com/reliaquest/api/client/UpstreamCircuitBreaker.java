@@ -0,0 +1,139 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.CustomCircuitOpenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Circuit breaker around every upstream exchange.
+ * <p>
+ * {@code failure-threshold} consecutive 429s, 503s, timeouts or connection failures open the circuit; while it is open
+ * calls fail immediately with {@link CustomCircuitOpenException} instead of sitting through the retry back-off. After
+ * {@code open-duration} a single probe call is let through (half-open): success closes the circuit, failure opens it
+ * for another period.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt = Instant.MIN;
+    private boolean probeInFlight;
+
+    @Autowired
+    public UpstreamCircuitBreaker(@Value("${employee.client.circuit-breaker.enabled:true}") boolean enabled,
+                                  @Value("${employee.client.circuit-breaker.failure-threshold:3}") int failureThreshold,
+                                  @Value("${employee.client.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this(enabled, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    UpstreamCircuitBreaker(boolean enabled, int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("employee.client.circuit-breaker.failure-threshold must be positive");
+        }
+        this.enabled = enabled;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            if (!enabled) {
+                return next.exchange(request);
+            }
+            return Mono.defer(() -> {
+                if (!tryAcquire()) {
+                    return Mono.error(new CustomCircuitOpenException(
+                            "Employee service is temporarily unavailable, please retry after sometime."));
+                }
+                return next.exchange(request)
+                        .doOnNext(this::record)
+                        .doOnError(this::record)
+                        .doOnCancel(this::releaseProbe);
+            });
+        };
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (getState() == State.CLOSED) {
+            return true;
+        }
+        if (getState() == State.HALF_OPEN && !probeInFlight) {
+            state = State.HALF_OPEN;
+            probeInFlight = true;
+            log.info("Circuit half-open, probing the upstream");
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Upstream recovered, closing circuit");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Opening circuit after {} consecutive upstream failures", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+        probeInFlight = false;
+    }
+
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    private void record(ClientResponse response) {
+        int status = response.statusCode().value();
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+    }
+
+    private void record(Throwable error) {
+        if (error instanceof WebClientRequestException || error instanceof TimeoutException) {
+            onFailure();
+        } else {
+            releaseProbe();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.UpstreamCircuitBreaker;
+import com.reliaquest.api.metrics.EmployeeMetrics;
+import com.reliaquest.api.utils.HelperUtils;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -10,31 +12,93 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Bounded, self-evicting pool for upstream connections. Acquisition fails fast once {@code max-connections} are busy
+     * and {@code pending-acquire-max-count} callers are already waiting, rather than queueing without limit. Pool
+     * gauges are published to Micrometer under {@code reactor.netty.connection.provider.*}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(
+            @Value("${employee.client.pool.max-connections:100}") int maxConnections,
+            @Value("${employee.client.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${employee.client.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${employee.client.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${employee.client.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${employee.client.pool.evict-in-background:30s}") Duration evictInBackground,
+            @Value("${employee.client.pool.metrics-enabled:true}") boolean metricsEnabled) {
+        return ConnectionProvider.builder("employee-upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(metricsEnabled)
+                .build();
+    }
+
     @Bean
-    public WebClient restClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 600_000)
-                .doOnConnected(connection -> connection.addHandlerLast(new ReadTimeoutHandler(100))
-                        .addHandlerLast(new WriteTimeoutHandler(100)));
+    public WebClient restClient(@Value("${employee.client.max-in-memory-size:16MB}") DataSize maxInMemorySize,
+                                @Value("${employee.client.connect-timeout:2s}") Duration connectTimeout,
+                                @Value("${employee.client.response-timeout:10s}") Duration responseTimeout,
+                                @Value("${employee.client.keep-alive:true}") boolean keepAlive,
+                                @Value("${employee.client.http2:false}") boolean http2,
+                                ConnectionProvider upstreamConnectionProvider,
+                                AdaptiveRateLimiter rateLimiter,
+                                UpstreamCircuitBreaker circuitBreaker,
+                                EmployeeMetrics metrics) {
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .keepAlive(keepAlive)
+                .responseTimeout(responseTimeout);
+        if (http2) {
+            // Cleartext HTTP/2 via upgrade, falling back to HTTP/1.1 when the server does not support it.
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configureJsonCodecs(configurer, maxInMemorySize))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .filter(circuitBreaker.filter())
+                .filter(rateLimiter.filter())
                 .filter(logRequest())
                 .filter(logResponse())
+                .filter(metrics.upstreamFilter())
                 .build();
     }
 
+    /**
+     * Decodes responses with the shared, pre-configured mapper from {@link HelperUtils}, and raises the buffering limit
+     * so that full roster payloads fit.
+     */
+    private void configureJsonCodecs(ClientCodecConfigurer configurer, DataSize maxInMemorySize) {
+        Jackson2JsonDecoder decoder = new Jackson2JsonDecoder(HelperUtils.getObjectMapper());
+        decoder.setMaxInMemorySize((int) maxInMemorySize.toBytes());
+        configurer.defaultCodecs().jackson2JsonDecoder(decoder);
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(HelperUtils.getObjectMapper()));
+        configurer.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes());
+    }
+
     private ExchangeFilterFunction logRequest() {
         return (clientRequest, next) -> {
             log.info("Request: {} {}", clientRequest.method(), clientRequest.url());
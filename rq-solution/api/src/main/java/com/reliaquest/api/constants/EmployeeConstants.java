@@ -3,4 +3,9 @@ package com.reliaquest.api.constants;
 public class EmployeeConstants {
     // Exception Messages
     public static final String TOO_MANY_REQUEST_EXCEPTION_MSG = "Too Many Requests Exception. Please retry after sometime.";
+
+    // Response Headers
+    public static final String STALE_DATA_HEADER = "X-Data-Stale";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
 }
@@ -1,33 +1,62 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.EmployeePageRequest;
 import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.EmployeeBatchResponse;
+import com.reliaquest.api.response.EmployeeBulkCreateResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
+import static com.reliaquest.api.constants.EmployeeConstants.NEXT_CURSOR_HEADER;
+import static com.reliaquest.api.constants.EmployeeConstants.STALE_DATA_HEADER;
+
 @Slf4j
 @RestController
 @RequestMapping("/v1/employee")
+@ConditionalOnProperty(name = "employee.api.reactive", havingValue = "false", matchIfMissing = true)
 public class EmployeeController {
 
     @Autowired
     EmployeeServiceImpl employeeService;
 
     /**
-     * API to get all Employees List
+     * API to get all Employees List. With any of the paging, sorting or filtering parameters the request is passed
+     * through to the upstream and a single page is returned, with the cursor of the next page (if any) in the
+     * {@value com.reliaquest.api.constants.EmployeeConstants#NEXT_CURSOR_HEADER} header.
      *
+     * @param pageRequest - optional limit, after, sort, order and filters
      * @return - Employee List, with status message
      */
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllEmployees() {
+    public ResponseEntity<Object> getAllEmployees(EmployeePageRequest pageRequest) {
+        if (!pageRequest.isUnpaged()) {
+            return withNextCursor(employeeService.getEmployeesPage(pageRequest));
+        }
         List<Employee> employeeList = employeeService.getAllEmployees();
-        return new ResponseEntity<>(employeeList, HttpStatus.OK);
+        return withStaleness(employeeList);
+    }
+
+    /**
+     * API to stream all Employees as newline-delimited JSON, selected with {@code Accept: application/x-ndjson}.
+     * Employees are written as they are decoded, so large rosters are exported in constant memory.
+     *
+     * @return - Employee stream
+     */
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
     }
 
     /**
@@ -39,7 +68,20 @@ public class EmployeeController {
     @GetMapping("/{id}")
     public ResponseEntity<Object> getEmployeeById(@PathVariable("id") String id) {
         Employee employeeResponse = employeeService.getEmployeeById(id);
-        return new ResponseEntity<>(employeeResponse, HttpStatus.OK);
+        return withStaleness(employeeResponse);
+    }
+
+    /**
+     * API to look up many employees by id in one call. Duplicate ids are ignored; ids that do not exist, or could not
+     * be fetched from the upstream, are listed separately instead of failing the whole batch.
+     *
+     * @param ids
+     * @return - Returns the employees found, in request order, with the not found and failed ids
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Object> getEmployeesByIds(@RequestBody List<String> ids) {
+        EmployeeBatchResponse batchResponse = employeeService.getEmployeesByIds(ids);
+        return withStaleness(batchResponse);
     }
 
     /**
@@ -54,16 +96,33 @@ public class EmployeeController {
         return new ResponseEntity<Object>(employeeResponse, HttpStatus.OK);
     }
 
+    /**
+     * API to create many employees in one call. Each employee is created independently; failures are reported per
+     * item instead of failing the whole request.
+     *
+     * @param employees
+     * @return - Returns the created employee or the error for each submitted employee, in submission order
+     */
+    @PostMapping("/create/bulk")
+    public ResponseEntity<Object> createEmployees(@RequestBody List<EmployeeRequest> employees) {
+        EmployeeBulkCreateResponse bulkResponse = employeeService.createEmployees(employees);
+        return new ResponseEntity<Object>(bulkResponse, HttpStatus.OK);
+    }
+
     /**
      * API to search the employees which has the given nameStr in thier names
      *
      * @param searchStr
+     * @param ignoreCase - match regardless of letter case
+     * @param prefix - match only names starting with searchStr
      * @return - Returns the list of employees
      */
     @GetMapping("/name/{searchStr}")
-    public ResponseEntity<Object> getEmployeesByNameSearch(@PathVariable("searchStr") String searchStr) {
-        List<Employee> listEmployees = employeeService.getEmployeesByNameSearch(searchStr);
-        return new ResponseEntity<>(listEmployees, HttpStatus.OK);
+    public ResponseEntity<Object> getEmployeesByNameSearch(@PathVariable("searchStr") String searchStr,
+                                                           @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+                                                           @RequestParam(value = "prefix", defaultValue = "false") boolean prefix) {
+        List<Employee> listEmployees = employeeService.getEmployeesByNameSearch(searchStr, ignoreCase, prefix);
+        return withStaleness(listEmployees);
     }
 
     /**
@@ -74,7 +133,7 @@ public class EmployeeController {
     @GetMapping("/highest/salary")
     public ResponseEntity<Object> getHighestSalaryOfEmployees() {
         int highestSalary = employeeService.getHighestSalaryOfEmployees();
-        return new ResponseEntity<>(highestSalary, HttpStatus.OK);
+        return withStaleness(highestSalary);
     }
 
     /**
@@ -85,7 +144,7 @@ public class EmployeeController {
     @GetMapping("/highest/top10")
     public ResponseEntity<Object> getTop10HighestEarningEmployeeNames() throws Exception {
         List<Employee> listEmployees = employeeService.getTop10HighestEarningEmployeeNames();
-        return new ResponseEntity<>(listEmployees, HttpStatus.OK);
+        return withStaleness(listEmployees);
     }
 
     /**
@@ -98,4 +157,24 @@ public class EmployeeController {
     public String deleteEmployeeById(@PathVariable("id") String id) {
         return employeeService.deleteEmployeeById(id);
     }
+
+    private ResponseEntity<Object> withNextCursor(EmployeePageResponse page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return new ResponseEntity<>(page.getData(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Wraps a read result, flagging it with {@value com.reliaquest.api.constants.EmployeeConstants#STALE_DATA_HEADER}
+     * when the read that produced it was served from a stale roster while the upstream is unavailable.
+     */
+    private ResponseEntity<Object> withStaleness(Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        if (employeeService.isServingStaleData()) {
+            headers.set(STALE_DATA_HEADER, "true");
+        }
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
 }
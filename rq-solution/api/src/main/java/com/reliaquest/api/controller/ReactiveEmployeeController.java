@@ -0,0 +1,186 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.StaleDataMarker;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.EmployeePageRequest;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.EmployeePageResponse;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.reliaquest.api.constants.EmployeeConstants.NEXT_CURSOR_HEADER;
+import static com.reliaquest.api.constants.EmployeeConstants.STALE_DATA_HEADER;
+
+/**
+ * Non-blocking twin of {@link EmployeeController}, enabled with {@code employee.api.reactive=true} (see the
+ * {@code reactive} profile). Every endpoint returns a publisher, so no request thread is held while the upstream call
+ * or its retry back-off is pending.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/employee")
+@ConditionalOnProperty(name = "employee.api.reactive", havingValue = "true")
+public class ReactiveEmployeeController {
+
+    @Autowired
+    EmployeeServiceImpl employeeService;
+
+    /**
+     * API to get all Employees List. With any of the paging, sorting or filtering parameters the request is passed
+     * through to the upstream and a single page is returned, with the cursor of the next page (if any) in the
+     * {@value com.reliaquest.api.constants.EmployeeConstants#NEXT_CURSOR_HEADER} header.
+     *
+     * @param pageRequest - optional limit, after, sort, order and filters
+     * @return - Employee List, with status message
+     */
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Object>> getAllEmployees(EmployeePageRequest pageRequest) {
+        if (!pageRequest.isUnpaged()) {
+            return employeeService.getEmployeesPageReactive(pageRequest)
+                    .map(this::withNextCursor);
+        }
+        return withStaleness(employeeService.getAllEmployeesReactive());
+    }
+
+    /**
+     * API to stream all Employees as newline-delimited JSON, selected with {@code Accept: application/x-ndjson}.
+     * Employees are written as they are decoded, so large rosters are exported in constant memory.
+     *
+     * @return - Employee stream
+     */
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
+    /**
+     * API to get employee details by given id
+     *
+     * @param id
+     * @return - Return the employee details
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getEmployeeById(@PathVariable("id") String id) {
+        return withStaleness(employeeService.getEmployeeByIdReactive(id));
+    }
+
+    /**
+     * API to look up many employees by id in one call. Duplicate ids are ignored; ids that do not exist, or could not
+     * be fetched from the upstream, are listed separately instead of failing the whole batch.
+     *
+     * @param ids
+     * @return - Returns the employees found, in request order, with the not found and failed ids
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> getEmployeesByIds(@RequestBody List<String> ids) {
+        return withStaleness(employeeService.getEmployeesByIdsReactive(ids));
+    }
+
+    /**
+     * API to create employee
+     *
+     * @param employee
+     * @return - Returns the same employee details in case of success
+     */
+    @PostMapping("/create")
+    public Mono<ResponseEntity<Object>> createEmployee(@RequestBody EmployeeRequest employee) {
+        return employeeService.createEmployeeReactive(employee)
+                .map(employeeResponse -> new ResponseEntity<>(employeeResponse, HttpStatus.OK));
+    }
+
+    /**
+     * API to create many employees in one call. Each employee is created independently; failures are reported per
+     * item instead of failing the whole request.
+     *
+     * @param employees
+     * @return - Returns the created employee or the error for each submitted employee, in submission order
+     */
+    @PostMapping("/create/bulk")
+    public Mono<ResponseEntity<Object>> createEmployees(@RequestBody List<EmployeeRequest> employees) {
+        return employeeService.createEmployeesReactive(employees)
+                .map(bulkResponse -> new ResponseEntity<>(bulkResponse, HttpStatus.OK));
+    }
+
+    /**
+     * API to search the employees which has the given nameStr in thier names
+     *
+     * @param searchStr
+     * @param ignoreCase - match regardless of letter case
+     * @param prefix - match only names starting with searchStr
+     * @return - Returns the list of employees
+     */
+    @GetMapping("/name/{searchStr}")
+    public Mono<ResponseEntity<Object>> getEmployeesByNameSearch(@PathVariable("searchStr") String searchStr,
+                                                                 @RequestParam(value = "ignoreCase", defaultValue = "false") boolean ignoreCase,
+                                                                 @RequestParam(value = "prefix", defaultValue = "false") boolean prefix) {
+        return withStaleness(employeeService.getEmployeesByNameSearchReactive(searchStr, ignoreCase, prefix));
+    }
+
+    /**
+     * API to get the highest salary of the employee
+     *
+     * @return - int salary value
+     */
+    @GetMapping("/highest/salary")
+    public Mono<ResponseEntity<Object>> getHighestSalaryOfEmployees() {
+        return withStaleness(employeeService.getHighestSalaryOfEmployeesReactive());
+    }
+
+    /**
+     * API to get the top 10 highest paid employee
+     *
+     * @return - Returns the employee list, else returns the empty list
+     */
+    @GetMapping("/highest/top10")
+    public Mono<ResponseEntity<Object>> getTop10HighestEarningEmployeeNames() {
+        return withStaleness(employeeService.getTop10HighestEarningEmployeeNamesReactive());
+    }
+
+    /**
+     * API to delete employee by id
+     *
+     * @param id
+     * @return
+     */
+    @DeleteMapping("/delete/{id}")
+    public Mono<String> deleteEmployeeById(@PathVariable("id") String id) {
+        return employeeService.deleteEmployeeByIdReactive(id);
+    }
+
+    private ResponseEntity<Object> withNextCursor(EmployeePageResponse page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return new ResponseEntity<>(page.getData(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Wraps a read result, flagging it with {@value com.reliaquest.api.constants.EmployeeConstants#STALE_DATA_HEADER}
+     * when this response was served from a stale roster while the upstream is unavailable.
+     */
+    private Mono<ResponseEntity<Object>> withStaleness(Mono<?> read) {
+        return Mono.defer(() -> {
+            StaleDataMarker marker = new StaleDataMarker();
+            return read.<ResponseEntity<Object>>map(body -> {
+                        HttpHeaders headers = new HttpHeaders();
+                        if (marker.isStale()) {
+                            headers.set(STALE_DATA_HEADER, "true");
+                        }
+                        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+                    })
+                    .contextWrite(marker::into);
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.exception;
+
+public class CustomCircuitOpenException extends RuntimeException {
+    public CustomCircuitOpenException(String message) {
+        super(message);
+    }
+}
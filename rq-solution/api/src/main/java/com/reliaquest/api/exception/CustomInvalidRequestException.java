@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+public class CustomInvalidRequestException extends RuntimeException {
+    public CustomInvalidRequestException(String message) {
+        super(message);
+    }
+
+    public CustomInvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
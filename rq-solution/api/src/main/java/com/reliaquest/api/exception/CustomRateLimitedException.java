@@ -0,0 +1,20 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+/**
+ * The client-side rate limiter refused an upstream call because its permit would not be available within
+ * {@code max-wait}. Carries how long until one is, so that callers can be told when to retry.
+ */
+public class CustomRateLimitedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public CustomRateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,6 +1,8 @@
 package com.reliaquest.api.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -27,12 +29,33 @@ public class GenericExceptionHandler {
         return createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(CustomInvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public CustomErrorResponse handleInvalidRequestException(CustomInvalidRequestException ex) {
+        return createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     @ExceptionHandler(EmpInternalServiceException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public CustomErrorResponse handleEmpInternalServiceException(EmpInternalServiceException ex) {
         return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
+    @ExceptionHandler(CustomCircuitOpenException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public CustomErrorResponse handleCircuitOpenException(CustomCircuitOpenException ex) {
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
+    @ExceptionHandler(CustomRateLimitedException.class)
+    public ResponseEntity<CustomErrorResponse> handleRateLimitedException(CustomRateLimitedException ex) {
+        // Whole seconds, rounded up so that a caller honouring the header does not come back too early.
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
     private CustomErrorResponse createErrorResponse(HttpStatus status, String message) {
         CustomErrorResponse response = new CustomErrorResponse();
         response.setStatus(status);
@@ -0,0 +1,79 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable employee lookup by id.
+ * <p>
+ * Laid out like {@link NameIndex}: the map is split into a fixed number of shards by id hash, and {@link #with} and
+ * {@link #without} derive a new index that shares every shard but the one the id falls in. A single create or delete
+ * therefore copies about {@code 1/SHARDS} of the roster instead of rehashing all of it.
+ */
+public final class IdIndex {
+
+    private static final int SHARDS = 256;
+
+    /**
+     * Employees by id, in {@code SHARDS} maps picked by {@link #shard(String)}. Shards are never mutated once the
+     * index is published, so derived indexes can share them.
+     */
+    private final Map<String, Employee>[] shards;
+
+    private IdIndex(Map<String, Employee>[] shards) {
+        this.shards = shards;
+    }
+
+    public static IdIndex build(Collection<Employee> roster) {
+        Map<String, Employee>[] shards = newShards();
+        int capacity = Math.max(16, roster.size() / SHARDS * 4 / 3 + 1);
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new HashMap<>(capacity);
+        }
+        for (Employee employee : roster) {
+            shards[shard(employee.getId())].put(employee.getId(), employee);
+        }
+        return new IdIndex(shards);
+    }
+
+    public Employee get(String id) {
+        return shards[shard(id)].get(id);
+    }
+
+    public boolean contains(String id) {
+        return get(id) != null;
+    }
+
+    public IdIndex with(Employee employee) {
+        Map<String, Employee>[] next = shards.clone();
+        int index = shard(employee.getId());
+        next[index] = new HashMap<>(shards[index]);
+        next[index].put(employee.getId(), employee);
+        return new IdIndex(next);
+    }
+
+    public IdIndex without(String id) {
+        if (!contains(id)) {
+            return this;
+        }
+        Map<String, Employee>[] next = shards.clone();
+        int index = shard(id);
+        next[index] = new HashMap<>(shards[index]);
+        next[index].remove(id);
+        return new IdIndex(next);
+    }
+
+    private static int shard(String id) {
+        int hash = Objects.hashCode(id);
+        return (hash ^ (hash >>> 16)) & (SHARDS - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Employee>[] newShards() {
+        return new Map[SHARDS];
+    }
+}
@@ -0,0 +1,192 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable trigram inverted index over {@code employee_name}.
+ * <p>
+ * Names are case-folded character by character before being split into trigrams, and every name also contributes a
+ * start-anchored gram so prefix searches can be narrowed with a single lookup. A query is answered by picking the
+ * rarest of its grams and verifying only that posting list, which keeps substring search roughly flat as the roster
+ * grows. Posting lists keep roster order, so results come back in the same order as a linear scan would return them.
+ * <p>
+ * Like {@link SalaryIndex}, updates derive a new index rather than mutate this one. The gram map is split into a fixed
+ * number of shards by gram hash, and a derived index shares every shard the changed name does not touch; only the
+ * touched shards (a small fraction of the grams each) and the touched posting lists are copied.
+ */
+public final class NameIndex {
+
+    static final int GRAM_LENGTH = 3;
+    private static final char START = '\u0002';
+    private static final Employee[] NO_EMPLOYEES = new Employee[0];
+    private static final int SHARDS = 256;
+
+    /**
+     * Posting lists by gram, in {@code SHARDS} maps picked by {@link #shard(String)}. Shards are never mutated once
+     * the index is published, so derived indexes can share them.
+     */
+    private final Map<String, Employee[]>[] shards;
+
+    private NameIndex(Map<String, Employee[]>[] shards) {
+        this.shards = shards;
+    }
+
+    public static NameIndex build(Collection<Employee> roster) {
+        Map<String, List<Employee>> building = new HashMap<>();
+        for (Employee employee : roster) {
+            for (String gram : indexGrams(employee.getEmployee_name())) {
+                building.computeIfAbsent(gram, ignored -> new ArrayList<>()).add(employee);
+            }
+        }
+        Map<String, Employee[]>[] shards = newShards();
+        int capacity = Math.max(16, building.size() / SHARDS * 4 / 3 + 1);
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new HashMap<>(capacity);
+        }
+        building.forEach((gram, employees) -> shards[shard(gram)].put(gram, employees.toArray(NO_EMPLOYEES)));
+        return new NameIndex(shards);
+    }
+
+    /**
+     * Returns the employees that may match {@code query}, in roster order, or empty when the query is too short to be
+     * narrowed by the index and the caller has to scan the full roster.
+     */
+    public Optional<List<Employee>> candidates(String query, boolean prefix) {
+        Set<String> grams = queryGrams(query, prefix);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+        Employee[] rarest = null;
+        for (String gram : grams) {
+            Employee[] posting = shards[shard(gram)].getOrDefault(gram, NO_EMPLOYEES);
+            if (rarest == null || posting.length < rarest.length) {
+                rarest = posting;
+            }
+            if (rarest.length == 0) {
+                break;
+            }
+        }
+        return Optional.of(Arrays.asList(rarest));
+    }
+
+    public NameIndex with(Employee employee) {
+        Set<String> grams = indexGrams(employee.getEmployee_name());
+        if (grams.isEmpty()) {
+            return this;
+        }
+        Map<String, Employee[]>[] next = shards.clone();
+        for (String gram : grams) {
+            Map<String, Employee[]> shard = copyOnWrite(next, shard(gram));
+            Employee[] posting = shard.getOrDefault(gram, NO_EMPLOYEES);
+            Employee[] appended = Arrays.copyOf(posting, posting.length + 1);
+            appended[posting.length] = employee;
+            shard.put(gram, appended);
+        }
+        return new NameIndex(next);
+    }
+
+    public NameIndex without(Employee employee) {
+        Set<String> grams = indexGrams(employee.getEmployee_name());
+        if (grams.isEmpty()) {
+            return this;
+        }
+        Map<String, Employee[]>[] next = shards.clone();
+        for (String gram : grams) {
+            int index = shard(gram);
+            Employee[] posting = next[index].get(gram);
+            if (posting == null) {
+                continue;
+            }
+            Employee[] remaining = Arrays.stream(posting)
+                    .filter(candidate -> !Objects.equals(candidate.getId(), employee.getId()))
+                    .toArray(Employee[]::new);
+            Map<String, Employee[]> shard = copyOnWrite(next, index);
+            if (remaining.length == 0) {
+                shard.remove(gram);
+            } else {
+                shard.put(gram, remaining);
+            }
+        }
+        return new NameIndex(next);
+    }
+
+    /**
+     * Returns {@code next[index]} as a map owned by {@code next}, copying it first if it is still shared with this
+     * index.
+     */
+    private Map<String, Employee[]> copyOnWrite(Map<String, Employee[]>[] next, int index) {
+        if (next[index] == shards[index]) {
+            next[index] = new HashMap<>(shards[index]);
+        }
+        return next[index];
+    }
+
+    private static int shard(String gram) {
+        int hash = gram.hashCode();
+        return (hash ^ (hash >>> 16)) & (SHARDS - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Employee[]>[] newShards() {
+        return new Map[SHARDS];
+    }
+
+    /**
+     * Checks a candidate against the query; this is the authoritative match, the index only narrows candidates.
+     */
+    public static boolean matches(String name, String query, boolean ignoreCase, boolean prefix) {
+        if (name == null) {
+            return false;
+        }
+        if (ignoreCase) {
+            name = fold(name);
+            query = fold(query);
+        }
+        return prefix ? name.startsWith(query) : name.contains(query);
+    }
+
+    /**
+     * Lower-cases one char at a time so that a case-sensitive match always implies a match of the folded strings.
+     */
+    static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static Set<String> indexGrams(String name) {
+        if (name == null || name.isEmpty()) {
+            return Set.of();
+        }
+        return grams(START + fold(name));
+    }
+
+    private static Set<String> queryGrams(String query, boolean prefix) {
+        String folded = prefix ? START + fold(query) : fold(query);
+        if (folded.length() < GRAM_LENGTH) {
+            return Set.of();
+        }
+        return grams(folded);
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * Immutable salary-ordered index over a roster. Employees are held in descending salary order next to a primitive
+ * salary column, so the highest salary is an O(1) read and the top-K is an O(K) slice. Ties keep roster order.
+ * <p>
+ * The index is sorted once per full roster load; {@link #with(Employee)} and {@link #without(Employee)} derive the
+ * next version with a binary search and a single array copy instead of a re-sort. Employees without a salary are not
+ * indexed.
+ */
+public final class SalaryIndex {
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new int[0], new Employee[0]);
+
+    private final int[] salaries;
+    private final Employee[] employees;
+
+    private SalaryIndex(int[] salaries, Employee[] employees) {
+        this.salaries = salaries;
+        this.employees = employees;
+    }
+
+    public static SalaryIndex build(Collection<Employee> roster) {
+        Employee[] sorted = roster.stream()
+                .filter(employee -> employee.getEmployee_salary() != null)
+                .toArray(Employee[]::new);
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+        // Arrays.sort on objects is stable, which preserves roster order among equal salaries.
+        Arrays.sort(sorted, Comparator.comparingInt(Employee::getEmployee_salary).reversed());
+        int[] salaries = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            salaries[i] = sorted[i].getEmployee_salary();
+        }
+        return new SalaryIndex(salaries, sorted);
+    }
+
+    public int size() {
+        return employees.length;
+    }
+
+    public OptionalInt highestSalary() {
+        return employees.length == 0 ? OptionalInt.empty() : OptionalInt.of(salaries[0]);
+    }
+
+    public List<Employee> top(int limit) {
+        return List.of(Arrays.copyOf(employees, Math.min(Math.max(limit, 0), employees.length)));
+    }
+
+    public SalaryIndex with(Employee employee) {
+        if (employee.getEmployee_salary() == null) {
+            return this;
+        }
+        int salary = employee.getEmployee_salary();
+        // New employees are appended to the roster, so they go after every existing employee with the same salary.
+        int position = firstBelow(salary);
+        int[] nextSalaries = new int[salaries.length + 1];
+        Employee[] nextEmployees = new Employee[employees.length + 1];
+        System.arraycopy(salaries, 0, nextSalaries, 0, position);
+        System.arraycopy(employees, 0, nextEmployees, 0, position);
+        nextSalaries[position] = salary;
+        nextEmployees[position] = employee;
+        System.arraycopy(salaries, position, nextSalaries, position + 1, salaries.length - position);
+        System.arraycopy(employees, position, nextEmployees, position + 1, employees.length - position);
+        return new SalaryIndex(nextSalaries, nextEmployees);
+    }
+
+    public SalaryIndex without(Employee employee) {
+        if (employee.getEmployee_salary() == null) {
+            return this;
+        }
+        int salary = employee.getEmployee_salary();
+        int position = -1;
+        for (int i = firstAtOrBelow(salary); i < salaries.length && salaries[i] == salary; i++) {
+            if (Objects.equals(employees[i].getId(), employee.getId())) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            return this;
+        }
+        int[] nextSalaries = new int[salaries.length - 1];
+        Employee[] nextEmployees = new Employee[employees.length - 1];
+        System.arraycopy(salaries, 0, nextSalaries, 0, position);
+        System.arraycopy(employees, 0, nextEmployees, 0, position);
+        System.arraycopy(salaries, position + 1, nextSalaries, position, salaries.length - position - 1);
+        System.arraycopy(employees, position + 1, nextEmployees, position, employees.length - position - 1);
+        return new SalaryIndex(nextSalaries, nextEmployees);
+    }
+
+    /**
+     * First position whose salary is strictly lower than {@code salary}.
+     */
+    private int firstBelow(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First position whose salary is lower than or equal to {@code salary}.
+     */
+    private int firstAtOrBelow(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
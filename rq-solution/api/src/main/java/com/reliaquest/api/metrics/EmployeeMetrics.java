@@ -0,0 +1,172 @@
+package com.reliaquest.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Meters for the API's service operations and its upstream calls.
+ * <p>
+ * {@code employee.service.operation} times every {@code IEmployeeService} operation by name and outcome. The
+ * {@code employee.upstream.*} meters describe individual upstream attempts (so retries are counted separately):
+ * latency by method, route and status, 429s, timeouts, in-flight requests and response payload sizes. Upstream retries
+ * are counted by {@code HelperUtils} under {@link #UPSTREAM_RETRIES}.
+ */
+@Component
+public class EmployeeMetrics {
+
+    public static final String UPSTREAM_RETRIES = "employee.upstream.retries";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99, 0.999};
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[0-9a-fA-F-]{36}(?=/|$)");
+
+    private final MeterRegistry registry;
+    private final Counter throttled;
+    private final Counter timeouts;
+    private final DistributionSummary responseSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public EmployeeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.throttled = Counter.builder("employee.upstream.throttled")
+                .description("Upstream responses with status 429")
+                .register(registry);
+        this.timeouts = Counter.builder("employee.upstream.timeouts")
+                .description("Upstream calls that timed out")
+                .register(registry);
+        this.responseSize = DistributionSummary.builder("employee.upstream.response.size")
+                .description("Upstream response payload size")
+                .baseUnit("bytes")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        Gauge.builder("employee.upstream.in.flight", inFlight, AtomicInteger::get)
+                .description("Upstream requests currently in flight")
+                .register(registry);
+    }
+
+    public <T> Mono<T> timeOperation(String operation, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.get().doOnSuccess(ignored -> sample.stop(operationTimer(operation, "success")))
+                    .doOnError(ignored -> sample.stop(operationTimer(operation, "error")));
+        });
+    }
+
+    public <T> Flux<T> timeStream(String operation, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.get().doOnComplete(() -> sample.stop(operationTimer(operation, "success")))
+                    .doOnError(ignored -> sample.stop(operationTimer(operation, "error")));
+        });
+    }
+
+    /**
+     * Registers a hit-ratio gauge over the given counters; used by caches.
+     */
+    public void registerHitRatio(String cache, AtomicLong hits, AtomicLong misses) {
+        Gauge.builder("employee.cache.hit.ratio", () -> {
+                    long total = hits.get() + misses.get();
+                    return total == 0 ? Double.NaN : (double) hits.get() / total;
+                })
+                .tag("cache", cache)
+                .description("Share of reads served without an upstream call")
+                .register(registry);
+    }
+
+    /**
+     * WebClient filter recording one sample per upstream attempt; register it closest to the connector. An attempt
+     * stays in flight until its response body completes, fails or is cancelled, so callers must consume or release
+     * the body as WebClient requires anyway.
+     */
+    public ExchangeFilterFunction upstreamFilter() {
+        return (request, next) -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            String method = request.method().name();
+            String route = ID_SEGMENT.matcher(request.url().getPath()).replaceAll("/{id}");
+            AtomicBoolean released = new AtomicBoolean();
+            AtomicBoolean responded = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    inFlight.decrementAndGet();
+                }
+            };
+            inFlight.incrementAndGet();
+            return next.exchange(request)
+                    .map(response -> {
+                        responded.set(true);
+                        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                            throttled.increment();
+                        }
+                        sample.stop(upstreamTimer(method, route, String.valueOf(response.statusCode().value())));
+                        return measureBody(response, release);
+                    })
+                    .doOnError(error -> {
+                        if (isTimeout(error)) {
+                            timeouts.increment();
+                        }
+                        sample.stop(upstreamTimer(method, route, "IO_ERROR"));
+                    })
+                    .doFinally(signal -> {
+                        // Once a response is out, its body decides when the attempt is over.
+                        if (!responded.get()) {
+                            release.run();
+                        }
+                    });
+        });
+    }
+
+    private ClientResponse measureBody(ClientResponse response, Runnable release) {
+        AtomicLong bytes = new AtomicLong();
+        return response.mutate()
+                .body(body -> body.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                        .doOnComplete(() -> responseSize.record(bytes.get()))
+                        .doFinally(signal -> release.run()))
+                .build();
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return Timer.builder("employee.service.operation")
+                .description("IEmployeeService operation latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Timer upstreamTimer(String method, String route, String status) {
+        return Timer.builder("employee.upstream.requests")
+                .description("Upstream call latency per attempt")
+                .tag("method", method)
+                .tag("route", route)
+                .tag("status", status)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof ReadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Optional paging, sorting and filtering parameters of {@code /v1/employee/all}, passed through to the upstream as is.
+ * {@code after} is the opaque cursor returned in the {@code X-Next-Cursor} header of the previous page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageRequest {
+    private Integer limit;
+    private String after;
+    private String sort;
+    private String order;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Integer minAge;
+    private Integer maxAge;
+    private String name;
+    private String title;
+
+    public boolean isUnpaged() {
+        return Stream.of(limit, after, sort, order, minSalary, maxSalary, minAge, maxAge, name, title)
+                .allMatch(Objects::isNull);
+    }
+}
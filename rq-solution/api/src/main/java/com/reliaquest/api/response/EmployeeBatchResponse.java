@@ -0,0 +1,22 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.model.Employee;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup: the employees found, in request order, and the ids that do not exist upstream or could
+ * not be resolved because the upstream failed.
+ */
+@Data
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBatchResponse {
+    public List<Employee> data;
+    public List<String> notFound;
+    public List<String> failed;
+}
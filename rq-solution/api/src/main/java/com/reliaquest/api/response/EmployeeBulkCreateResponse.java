@@ -0,0 +1,31 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.model.Employee;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Result of a bulk create: one entry per submitted employee, in submission order, carrying either the created
+ * employee or the reason it was not created.
+ */
+@Data
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBulkCreateResponse {
+    public int created;
+    public int failed;
+    public List<Result> results;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Result {
+        public int index;
+        public Employee data;
+        public String error;
+    }
+}
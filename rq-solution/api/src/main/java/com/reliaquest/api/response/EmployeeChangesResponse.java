@@ -0,0 +1,42 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.model.Employee;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Upstream change feed: the creates and deletes after a roster version, oldest first. When {@code resync} is set the
+ * upstream no longer has all of them and the whole roster has to be fetched again.
+ */
+@Data
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChangesResponse {
+    public Changes data;
+    public String status;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Changes {
+        public long version;
+        public boolean resync;
+        public List<Change> changes;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Change {
+        public static final String CREATED = "CREATED";
+        public static final String DELETED = "DELETED";
+
+        public long version;
+        public String type;
+        public Employee employee;
+    }
+}
@@ -1,22 +1,60 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.EmployeePageRequest;
 import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.EmployeeBatchResponse;
+import com.reliaquest.api.response.EmployeeBulkCreateResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 public interface IEmployeeService {
     List<Employee> getAllEmployees() throws Exception;
 
+    EmployeePageResponse getEmployeesPage(EmployeePageRequest pageRequest) throws Exception;
+
     Employee getEmployeeById(String id) throws Exception;
 
+    EmployeeBatchResponse getEmployeesByIds(List<String> ids) throws Exception;
+
     List<Employee> getEmployeesByNameSearch(String name) throws Exception;
 
+    List<Employee> getEmployeesByNameSearch(String name, boolean ignoreCase, boolean prefix) throws Exception;
+
     List<Employee> getTop10HighestEarningEmployeeNames() throws Exception;
 
     Employee createEmployee(EmployeeRequest employee) throws Exception;
 
+    EmployeeBulkCreateResponse createEmployees(List<EmployeeRequest> employees) throws Exception;
+
     int getHighestSalaryOfEmployees() throws Exception;
 
     String deleteEmployeeById(String id) throws Exception;
+
+    // Non-blocking variants, used when the API runs on the reactive (Netty) stack.
+
+    Mono<List<Employee>> getAllEmployeesReactive();
+
+    Mono<EmployeePageResponse> getEmployeesPageReactive(EmployeePageRequest pageRequest);
+
+    Flux<Employee> streamAllEmployees();
+
+    Mono<Employee> getEmployeeByIdReactive(String id);
+
+    Mono<EmployeeBatchResponse> getEmployeesByIdsReactive(List<String> ids);
+
+    Mono<List<Employee>> getEmployeesByNameSearchReactive(String name, boolean ignoreCase, boolean prefix);
+
+    Mono<List<Employee>> getTop10HighestEarningEmployeeNamesReactive();
+
+    Mono<Employee> createEmployeeReactive(EmployeeRequest employee);
+
+    Mono<EmployeeBulkCreateResponse> createEmployeesReactive(List<EmployeeRequest> employees);
+
+    Mono<Integer> getHighestSalaryOfEmployeesReactive();
+
+    Mono<String> deleteEmployeeByIdReactive(String id);
 }
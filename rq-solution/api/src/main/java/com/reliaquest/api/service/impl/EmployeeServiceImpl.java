@@ -1,161 +1,492 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.StaleDataMarker;
+import com.reliaquest.api.exception.CustomInvalidRequestException;
 import com.reliaquest.api.exception.CustomNoDataFoundException;
 import com.reliaquest.api.exception.EmpInternalServiceException;
+import com.reliaquest.api.metrics.EmployeeMetrics;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.EmployeePageRequest;
 import com.reliaquest.api.request.EmployeeRequest;
-import com.reliaquest.api.response.EmployeeListResponse;
+import com.reliaquest.api.response.EmployeeBatchResponse;
+import com.reliaquest.api.response.EmployeeBulkCreateResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.response.EmployeeResponse;
 import com.reliaquest.api.service.IEmployeeService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException.TooManyRequests;
-import reactor.util.retry.RetryBackoffSpec;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Comparator;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static com.reliaquest.api.constants.EmployeeConstants.TOO_MANY_REQUEST_EXCEPTION_MSG;
 import static com.reliaquest.api.utils.HelperUtils.*;
 
+/**
+ * Each operation is implemented once as a non-blocking {@link Mono} pipeline; the blocking methods used by the
+ * servlet controller simply wait on it.
+ */
 @Service
 @Slf4j
 public class EmployeeServiceImpl implements IEmployeeService {
 
-    @Autowired
-    private WebClient webClient;
+    private final WebClient webClient;
 
-    RetryBackoffSpec retrySpecs = getRetrySpecs();
+    private final EmployeeRosterCache rosterCache;
+
+    private final EmployeeMetrics metrics;
+
+    /**
+     * Marker of the last read made by a blocking method on this thread, until the controller asks about it.
+     */
+    private final ThreadLocal<StaleDataMarker> lastRead = new ThreadLocal<>();
 
     @Value("${employee.server.base-url}")
     private String BASE_URL;
 
-    public EmployeeServiceImpl(WebClient webClient) {
+    @Value("${employee.server.delete-by-id:true}")
+    private boolean deleteById;
+
+    @Value("${employee.batch.max-size:1000}")
+    private int batchMaxSize;
+
+    @Value("${employee.batch.concurrency:8}")
+    private int batchConcurrency;
+
+    @Value("${employee.bulk-create.max-size:10000}")
+    private int bulkCreateMaxSize;
+
+    @Value("${employee.bulk-create.concurrency:8}")
+    private int bulkCreateConcurrency;
+
+    public EmployeeServiceImpl(WebClient webClient, EmployeeRosterCache rosterCache, EmployeeMetrics metrics) {
         this.webClient = webClient;
+        this.rosterCache = rosterCache;
+        this.metrics = metrics;
     }
 
     @Override
     public List<Employee> getAllEmployees() {
-        log.info("Request to fetch all employees from {} ", BASE_URL);
-        try {
-            String strResponse = getEmployeeData(webClient, BASE_URL);
-            EmployeeListResponse employeeResponse = processResponse(strResponse, EmployeeListResponse.class);
-            log.info(employeeResponse.toString());
-            log.info("Fetched {} employees successfully.", employeeResponse.getData().size());
-            return employeeResponse.getData();
-        } catch (TooManyRequests e) {
-            log.warn(TOO_MANY_REQUEST_EXCEPTION_MSG);
-            throw e;
-        } catch (Exception e) {
-            log.warn(e.getMessage());
-            throw handleCustomException(e, "Failed to retrieve all employees data.");
+        return blockRead(getAllEmployeesReactive());
+    }
+
+    @Override
+    public Mono<List<Employee>> getAllEmployeesReactive() {
+        return metrics.timeOperation("getAllEmployees", this::doGetAllEmployeesReactive);
+    }
+
+    private Mono<List<Employee>> doGetAllEmployeesReactive() {
+        log.info("Request to fetch all employees");
+        return rosterCache.snapshot()
+                .map(snapshot -> snapshot.employees())
+                .onErrorMap(mapException("Failed to retrieve all employees data."));
+    }
+
+    @Override
+    public EmployeePageResponse getEmployeesPage(EmployeePageRequest pageRequest) {
+        return getEmployeesPageReactive(pageRequest).block();
+    }
+
+    @Override
+    public Mono<EmployeePageResponse> getEmployeesPageReactive(EmployeePageRequest pageRequest) {
+        return metrics.timeOperation("getEmployeesPage", () -> doGetEmployeesPageReactive(pageRequest));
+    }
+
+    /**
+     * Pages are served by the upstream rather than cut from the cached roster, so a caller that needs one page only
+     * pays for that page, and its cursor stays valid across API instances.
+     */
+    private Mono<EmployeePageResponse> doGetEmployeesPageReactive(EmployeePageRequest pageRequest) {
+        log.info("Request to fetch a page of employees: {}", pageRequest);
+        URI uri = UriComponentsBuilder.fromUriString(BASE_URL)
+                .queryParamIfPresent("limit", Optional.ofNullable(pageRequest.getLimit()))
+                .queryParamIfPresent("after", Optional.ofNullable(pageRequest.getAfter()))
+                .queryParamIfPresent("sort", Optional.ofNullable(pageRequest.getSort()))
+                .queryParamIfPresent("order", Optional.ofNullable(pageRequest.getOrder()))
+                .queryParamIfPresent("minSalary", Optional.ofNullable(pageRequest.getMinSalary()))
+                .queryParamIfPresent("maxSalary", Optional.ofNullable(pageRequest.getMaxSalary()))
+                .queryParamIfPresent("minAge", Optional.ofNullable(pageRequest.getMinAge()))
+                .queryParamIfPresent("maxAge", Optional.ofNullable(pageRequest.getMaxAge()))
+                .queryParamIfPresent("name", Optional.ofNullable(pageRequest.getName()))
+                .queryParamIfPresent("title", Optional.ofNullable(pageRequest.getTitle()))
+                .encode()
+                .build()
+                .toUri();
+        return getEmployeePageAsync(webClient, uri)
+                .doOnNext(page -> log.info("Fetched a page of {} employees, more: {}", page.getData().size(),
+                        page.getNextCursor() != null))
+                .onErrorMap(mapException("Failed to retrieve a page of employees."));
+    }
+
+    @Override
+    public Flux<Employee> streamAllEmployees() {
+        return metrics.timeStream("streamAllEmployees", this::doStreamAllEmployees);
+    }
+
+    private Flux<Employee> doStreamAllEmployees() {
+        Optional<RosterSnapshot> cached = rosterCache.peek();
+        if (cached.isPresent()) {
+            log.info("Streaming all employees from the roster cache");
+            return Flux.fromIterable(cached.get().employees());
         }
+        log.info("Streaming all employees from the upstream");
+        return streamEmployeeData(webClient, BASE_URL)
+                .onErrorMap(mapException("Failed to stream all employees data."));
     }
 
     @Override
     public Employee getEmployeeById(String id) {
+        return blockRead(getEmployeeByIdReactive(id));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeByIdReactive(String id) {
+        return metrics.timeOperation("getEmployeeById", () -> doGetEmployeeByIdReactive(id));
+    }
+
+    private Mono<Employee> doGetEmployeeByIdReactive(String id) {
         log.info("Fetching employee details with id: {}", id);
-        try {
-            String strResponse = getEmployeeData(webClient, BASE_URL + "/" + id);
-            EmployeeResponse employeeResponse = processResponse(strResponse, EmployeeResponse.class);
-            log.info(employeeResponse.getData().toString());
-            log.info("Successfully fetched employee details with id: {}", id);
-            if (employeeResponse.getData() == null) {
-                throw new CustomNoDataFoundException("Employee with given id:" + id + " not found.");
-            }
-            return employeeResponse.getData();
-        } catch (TooManyRequests e) {
-            log.warn(TOO_MANY_REQUEST_EXCEPTION_MSG);
-            throw e;
-        } catch (CustomNoDataFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw handleCustomException(e, "Failed to retrieve employee by id.");
+        Optional<Employee> cached = rosterCache.peek().flatMap(snapshot -> snapshot.findById(id));
+        if (cached.isPresent()) {
+            log.info("Served employee with id: {} from the roster cache", id);
+            return Mono.just(cached.get());
         }
+        return getEmployeeDataAsync(webClient, BASE_URL + "/" + id, EmployeeResponse.class)
+                .flatMap(employeeResponse -> {
+                    if (employeeResponse.getData() == null) {
+                        return Mono.<Employee>error(new CustomNoDataFoundException("Employee with given id:" + id + " not found."));
+                    }
+                    log.info("Successfully fetched employee details with id: {}", id);
+                    return Mono.just(employeeResponse.getData());
+                })
+                .onErrorResume(e -> !(e instanceof CustomNoDataFoundException), e -> rosterCache.peekStale()
+                        .flatMap(snapshot -> snapshot.findById(id))
+                        .map(employee -> {
+                            log.warn("Upstream unavailable, served employee with id: {} from a stale roster", id);
+                            return StaleDataMarker.stale(employee);
+                        })
+                        .orElseGet(() -> Mono.error(e)))
+                .onErrorMap(mapException("Failed to retrieve employee by id."));
     }
 
+    @Override
+    public EmployeeBatchResponse getEmployeesByIds(List<String> ids) {
+        return blockRead(getEmployeesByIdsReactive(ids));
+    }
+
+    @Override
+    public Mono<EmployeeBatchResponse> getEmployeesByIdsReactive(List<String> ids) {
+        return metrics.timeOperation("getEmployeesByIds", () -> doGetEmployeesByIdsReactive(ids));
+    }
+
+    /**
+     * Resolves what it can from the fresh roster snapshot and fetches the remaining ids individually, at most
+     * {@code employee.batch.concurrency} at a time. Those calls go through the same rate limiter and circuit breaker as
+     * every other upstream call, so once the upstream pushes back the rest of the batch fails fast and is reported under
+     * {@code failed} rather than stalling the response.
+     */
+    private Mono<EmployeeBatchResponse> doGetEmployeesByIdsReactive(List<String> ids) {
+        Set<String> uniqueIds = new LinkedHashSet<>();
+        for (String id : ids == null ? List.<String>of() : ids) {
+            if (id != null && !id.isBlank()) {
+                uniqueIds.add(id.trim());
+            }
+        }
+        if (uniqueIds.size() > batchMaxSize) {
+            return Mono.error(new CustomInvalidRequestException(
+                    "A batch lookup accepts at most " + batchMaxSize + " ids, got " + uniqueIds.size() + "."));
+        }
+        log.info("Batch lookup of {} employees ({} ids requested)", uniqueIds.size(), ids == null ? 0 : ids.size());
+
+        Map<String, Employee> found = new ConcurrentHashMap<>();
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        List<String> misses = new ArrayList<>();
+        Optional<RosterSnapshot> snapshot = rosterCache.peek();
+        for (String id : uniqueIds) {
+            Optional<Employee> cached = snapshot.flatMap(roster -> roster.findById(id));
+            if (cached.isPresent()) {
+                found.put(id, cached.get());
+            } else if (isUuid(id)) {
+                misses.add(id);
+            }
+        }
+        log.info("Batch lookup served {} employees from the roster cache, fetching {} from the upstream", found.size(),
+                misses.size());
+
+        return Flux.fromIterable(misses)
+                .flatMap(id -> getEmployeeDataAsync(webClient, BASE_URL + "/" + id, EmployeeResponse.class)
+                        .doOnNext(employeeResponse -> {
+                            if (employeeResponse.getData() != null) {
+                                found.put(id, employeeResponse.getData());
+                            }
+                        })
+                        .onErrorResume(e -> Mono.deferContextual(context -> {
+                            if (!(e instanceof CustomNoDataFoundException)) {
+                                Optional<Employee> stale = rosterCache.peekStale().flatMap(roster -> roster.findById(id));
+                                if (stale.isPresent()) {
+                                    StaleDataMarker.markStale(context);
+                                    found.put(id, stale.get());
+                                } else {
+                                    log.warn("Batch lookup failed for employee with id: {}: {}", id, e.getMessage());
+                                    failed.add(id);
+                                }
+                            }
+                            return Mono.empty();
+                        })), batchConcurrency)
+                .then(Mono.fromCallable(() -> {
+                    List<Employee> employees = new ArrayList<>();
+                    List<String> notFoundIds = new ArrayList<>();
+                    List<String> failedIds = new ArrayList<>();
+                    for (String id : uniqueIds) {
+                        if (found.containsKey(id)) {
+                            employees.add(found.get(id));
+                        } else if (failed.contains(id)) {
+                            failedIds.add(id);
+                        } else {
+                            notFoundIds.add(id);
+                        }
+                    }
+                    log.info("Batch lookup found {} employees, {} not found, {} failed", employees.size(),
+                            notFoundIds.size(), failedIds.size());
+                    return new EmployeeBatchResponse(employees, notFoundIds, failedIds);
+                }))
+                .onErrorMap(mapException("Failed to look up employees by ids."));
+    }
 
     @Override
     public Employee createEmployee(EmployeeRequest employeeInput) {
+        return createEmployeeReactive(employeeInput).block();
+    }
+
+    @Override
+    public Mono<Employee> createEmployeeReactive(EmployeeRequest employeeInput) {
+        return metrics.timeOperation("createEmployee", () -> doCreateEmployeeReactive(employeeInput));
+    }
+
+    private Mono<Employee> doCreateEmployeeReactive(EmployeeRequest employeeInput) {
         log.info("Creating new employee...");
-        try {
-            EmployeeResponse employeeResponse = postEmployeeData(webClient, BASE_URL, employeeInput);
-            log.info(employeeResponse.getData().toString());
-            log.info("Successfully created new employee.");
-            return employeeResponse.getData();
-        } catch (TooManyRequests e) {
-            log.warn(TOO_MANY_REQUEST_EXCEPTION_MSG);
-            throw e;
-        } catch (Exception e) {
-            throw handleCustomException(e, "Failed to create a new employee.");
+        return postEmployeeDataAsync(webClient, BASE_URL, employeeInput)
+                .map(employeeResponse -> {
+                    log.info(employeeResponse.getData().toString());
+                    log.info("Successfully created new employee.");
+                    rosterCache.onEmployeeCreated(employeeResponse.getData());
+                    return employeeResponse.getData();
+                })
+                .onErrorMap(mapException("Failed to create a new employee."));
+    }
+
+    @Override
+    public EmployeeBulkCreateResponse createEmployees(List<EmployeeRequest> employeeInputs) {
+        return createEmployeesReactive(employeeInputs).block();
+    }
+
+    @Override
+    public Mono<EmployeeBulkCreateResponse> createEmployeesReactive(List<EmployeeRequest> employeeInputs) {
+        return metrics.timeOperation("createEmployees", () -> doCreateEmployeesReactive(employeeInputs));
+    }
+
+    /**
+     * Pipelines the creates with at most {@code employee.bulk-create.concurrency} in flight. {@code flatMapSequential}
+     * only requests further inputs as earlier creates complete, so a large import never queues more than that many
+     * upstream calls, and results come back in submission order. A failed create is reported for its item and does not
+     * stop the others. The roster cache is reloaded once afterwards rather than patched per employee.
+     */
+    private Mono<EmployeeBulkCreateResponse> doCreateEmployeesReactive(List<EmployeeRequest> employeeInputs) {
+        List<EmployeeRequest> inputs = employeeInputs == null ? List.of() : employeeInputs;
+        if (inputs.size() > bulkCreateMaxSize) {
+            return Mono.error(new CustomInvalidRequestException(
+                    "A bulk create accepts at most " + bulkCreateMaxSize + " employees, got " + inputs.size() + "."));
         }
+        log.info("Creating {} employees in bulk...", inputs.size());
+        return Flux.range(0, inputs.size())
+                .flatMapSequential(index -> createForBulk(index, inputs.get(index)), bulkCreateConcurrency)
+                .collectList()
+                .map(results -> {
+                    int created = (int) results.stream().filter(result -> result.getError() == null).count();
+                    if (created > 0) {
+                        rosterCache.invalidate();
+                    }
+                    log.info("Bulk create finished: {} created, {} failed.", created, results.size() - created);
+                    return new EmployeeBulkCreateResponse(created, results.size() - created, results);
+                })
+                .onErrorMap(mapException("Failed to create employees in bulk."));
+    }
+
+    private Mono<EmployeeBulkCreateResponse.Result> createForBulk(int index, EmployeeRequest employeeInput) {
+        if (employeeInput == null) {
+            return Mono.just(new EmployeeBulkCreateResponse.Result(index, null, "Missing employee."));
+        }
+        return postEmployeeDataAsync(webClient, BASE_URL, employeeInput)
+                .map(employeeResponse -> new EmployeeBulkCreateResponse.Result(index, employeeResponse.getData(), null))
+                .onErrorResume(e -> {
+                    log.warn("Bulk create failed for employee #{}: {}", index, e.getMessage());
+                    return Mono.just(new EmployeeBulkCreateResponse.Result(index, null, e.getMessage()));
+                });
     }
 
     @Override
     public String deleteEmployeeById(String id) {
+        return deleteEmployeeByIdReactive(id).block();
+    }
+
+    @Override
+    public Mono<String> deleteEmployeeByIdReactive(String id) {
+        return metrics.timeOperation("deleteEmployeeById", () -> doDeleteEmployeeByIdReactive(id));
+    }
+
+    private Mono<String> doDeleteEmployeeByIdReactive(String id) {
         log.info("Deleting employee by id: {}", id);
-        try {
-            Employee employee = getEmployeeById(id);
-            deleteEmployeeData(webClient, employee.getEmployee_name());
-            log.info("Successfully deleted employee with id: {}", id);
-            return employee.getEmployee_name();
-        } catch (TooManyRequests e) {
-            log.warn(TOO_MANY_REQUEST_EXCEPTION_MSG);
-            throw e;
-        } catch (Exception e) {
-            throw handleCustomException(e, "Failed to delete employee by id.");
-        }
+        return (deleteById ? deleteByIdUpstream(id) : deleteByNameUpstream(id))
+                .map(employeeName -> {
+                    rosterCache.onEmployeeDeleted(id);
+                    log.info("Successfully deleted employee with id: {}", id);
+                    return employeeName;
+                })
+                .onErrorMap(mapException("Failed to delete employee by id."));
+    }
+
+    private Mono<String> deleteByIdUpstream(String id) {
+        return deleteEmployeeByIdAsync(webClient, BASE_URL + "/" + id)
+                .flatMap(employeeResponse -> {
+                    if (employeeResponse.getData() == null) {
+                        return Mono.<String>error(new CustomNoDataFoundException("Employee with given id:" + id + " not found."));
+                    }
+                    return Mono.just(employeeResponse.getData().getEmployee_name());
+                });
+    }
+
+    /**
+     * A name-only upstream needs the name first. Names never change for an id, so any roster we still hold answers
+     * that without a lookup; only ids we have never seen cost the extra GET.
+     */
+    private Mono<String> deleteByNameUpstream(String id) {
+        Mono<Employee> employee = rosterCache.peekStale()
+                .flatMap(snapshot -> snapshot.findById(id))
+                .map(Mono::just)
+                .orElseGet(() -> doGetEmployeeByIdReactive(id));
+        return employee.flatMap(found -> deleteEmployeeDataAsync(webClient, BASE_URL, found.getEmployee_name())
+                .thenReturn(found.getEmployee_name()));
     }
 
     @Override
     public List<Employee> getTop10HighestEarningEmployeeNames() throws Exception {
+        return blockRead(getTop10HighestEarningEmployeeNamesReactive());
+    }
+
+    @Override
+    public Mono<List<Employee>> getTop10HighestEarningEmployeeNamesReactive() {
+        return metrics.timeOperation("getTop10HighestEarningEmployeeNames", this::doGetTop10HighestEarningEmployeeNamesReactive);
+    }
+
+    private Mono<List<Employee>> doGetTop10HighestEarningEmployeeNamesReactive() {
         log.info("Fetching top 10 highest-earning employees");
-        try {
-            return getAllEmployees().stream()
-                    .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
-                    .limit(10)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            throw handleCustomException(e, "retrieve top 10 highest-earning employees");
-        }
+        return rosterCache.snapshot()
+                .map(snapshot -> snapshot.salaryIndex().top(10))
+                .onErrorMap(mapException("retrieve top 10 highest-earning employees"));
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String searchStr) {
-        log.info("Searching for employees with name containing '{}'", searchStr);
-        try {
-            List<Employee> matchingEmployees = getAllEmployees().stream()
-                    .filter(employee -> employee.getEmployee_name().contains(searchStr))
-                    .collect(Collectors.toList());
-            if (matchingEmployees.isEmpty()) {
-                log.warn("No employees found matching '{}' in the name", searchStr);
-                throw new CustomNoDataFoundException("No employees found with '" + searchStr + "' containing in the names.");
-            }
-            log.info("Found {} employees with '{}' containing in the names.", matchingEmployees.size(), searchStr);
-            return matchingEmployees;
-        } catch (CustomNoDataFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw handleCustomException(e, "Failed to search employees by given '" + searchStr + "' in the names");
-        }
+        return getEmployeesByNameSearch(searchStr, false, false);
+    }
+
+    @Override
+    public List<Employee> getEmployeesByNameSearch(String searchStr, boolean ignoreCase, boolean prefix) {
+        return blockRead(getEmployeesByNameSearchReactive(searchStr, ignoreCase, prefix));
+    }
+
+    @Override
+    public Mono<List<Employee>> getEmployeesByNameSearchReactive(String searchStr, boolean ignoreCase, boolean prefix) {
+        return metrics.timeOperation("getEmployeesByNameSearch", () -> doGetEmployeesByNameSearchReactive(searchStr, ignoreCase, prefix));
+    }
+
+    private Mono<List<Employee>> doGetEmployeesByNameSearchReactive(String searchStr, boolean ignoreCase, boolean prefix) {
+        log.info("Searching for employees with name containing '{}' (ignoreCase={}, prefix={})", searchStr, ignoreCase,
+                prefix);
+        return rosterCache.snapshot()
+                .flatMap(snapshot -> {
+                    List<Employee> matchingEmployees = snapshot.searchByName(searchStr, ignoreCase, prefix);
+                    if (matchingEmployees.isEmpty()) {
+                        log.warn("No employees found matching '{}' in the name", searchStr);
+                        return Mono.<List<Employee>>error(new CustomNoDataFoundException(
+                                "No employees found with '" + searchStr + "' containing in the names."));
+                    }
+                    log.info("Found {} employees with '{}' containing in the names.", matchingEmployees.size(), searchStr);
+                    return Mono.just(matchingEmployees);
+                })
+                .onErrorMap(mapException("Failed to search employees by given '" + searchStr + "' in the names"));
     }
 
     @Override
     public int getHighestSalaryOfEmployees() {
+        return blockRead(getHighestSalaryOfEmployeesReactive());
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployeesReactive() {
+        return metrics.timeOperation("getHighestSalaryOfEmployees", this::doGetHighestSalaryOfEmployeesReactive);
+    }
+
+    private Mono<Integer> doGetHighestSalaryOfEmployeesReactive() {
         log.info("Finding the highest salary among employees...");
+        return rosterCache.snapshot()
+                .map(snapshot -> snapshot.salaryIndex().highestSalary()
+                        .orElseThrow(() -> new EmpInternalServiceException("No employees found to with the highest salary.")))
+                .onErrorMap(mapException("Failed to find the  highest salary of the employees."));
+    }
+
+    /**
+     * Whether the last blocking read on this thread was answered, in whole or in part, from a stale roster because the
+     * upstream is unavailable. Reactive callers put their own {@link StaleDataMarker} in the context instead.
+     */
+    public boolean isServingStaleData() {
+        StaleDataMarker marker = lastRead.get();
+        lastRead.remove();
+        return marker != null && marker.isStale();
+    }
+
+    private <T> T blockRead(Mono<T> read) {
+        StaleDataMarker marker = new StaleDataMarker();
+        lastRead.set(marker);
+        return read.contextWrite(marker::into).block();
+    }
+
+    private static boolean isUuid(String id) {
         try {
-            return getAllEmployees().stream()
-                    .map(Employee::getEmployee_salary)
-                    .max(Comparator.naturalOrder())
-                    .orElseThrow(() -> new EmpInternalServiceException("No employees found to with the highest salary."));
-        } catch (Exception e) {
-            throw handleCustomException(e, "Failed to find the  highest salary of the employees.");
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
         }
     }
 
-
+    /**
+     * Keeps the blocking error contract: 429s surface as-is, everything else goes through
+     * {@link com.reliaquest.api.utils.HelperUtils#handleCustomException}.
+     */
+    private static Function<Throwable, Throwable> mapException(String operation) {
+        return e -> {
+            if (e instanceof TooManyRequests) {
+                log.warn(TOO_MANY_REQUEST_EXCEPTION_MSG);
+                return e;
+            }
+            return e instanceof Exception ? handleCustomException((Exception) e, operation) : e;
+        };
+    }
 }
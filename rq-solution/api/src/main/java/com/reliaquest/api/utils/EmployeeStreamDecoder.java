@@ -0,0 +1,111 @@
+package com.reliaquest.api.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.model.Employee;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incrementally decodes the upstream list envelope ({@code {"data": [...], "status": ...}}) and emits each element of
+ * {@code data} as soon as its closing brace arrives. Only the employee currently being parsed is buffered, so memory
+ * use does not grow with the size of the roster.
+ */
+public final class EmployeeStreamDecoder {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectReader employeeReader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private int depth;
+    private String fieldName;
+    private boolean inData;
+    private TokenBuffer element;
+    private int elementDepth;
+
+    private EmployeeStreamDecoder(ObjectMapper mapper) throws IOException {
+        this.employeeReader = mapper.readerFor(Employee.class);
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    public static Flux<Employee> decode(Flux<DataBuffer> body, ObjectMapper mapper) {
+        return Flux.defer(() -> {
+            EmployeeStreamDecoder decoder;
+            try {
+                decoder = new EmployeeStreamDecoder(mapper);
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+            return body.concatMapIterable(decoder::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.endOfInput())));
+        });
+    }
+
+    private List<Employee> feed(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private List<Employee> endOfInput() {
+        feeder.endOfInput();
+        try {
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Employee> drain() throws IOException {
+        List<Employee> decoded = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    elementDepth++;
+                } else if (token.isStructEnd() && --elementDepth == 0) {
+                    decoded.add(employeeReader.readValue(element.asParser()));
+                    element = null;
+                }
+                continue;
+            }
+            if (inData && depth == 2 && token == JsonToken.START_OBJECT) {
+                element = new TokenBuffer(parser);
+                element.copyCurrentEvent(parser);
+                elementDepth = 1;
+            } else if (token.isStructStart()) {
+                depth++;
+                inData = depth == 2 && token == JsonToken.START_ARRAY && DATA_FIELD.equals(fieldName);
+            } else if (token.isStructEnd()) {
+                if (depth == 2) {
+                    inData = false;
+                }
+                depth--;
+            } else if (token == JsonToken.FIELD_NAME && depth == 1) {
+                fieldName = parser.currentName();
+            }
+        }
+        return decoded;
+    }
+}
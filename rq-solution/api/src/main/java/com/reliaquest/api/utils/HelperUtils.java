@@ -1,40 +1,62 @@
 package com.reliaquest.api.utils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reliaquest.api.exception.CustomCircuitOpenException;
 import com.reliaquest.api.exception.CustomCreateException;
 import com.reliaquest.api.exception.CustomDeleteException;
+import com.reliaquest.api.exception.CustomInvalidRequestException;
 import com.reliaquest.api.exception.CustomNoDataFoundException;
+import com.reliaquest.api.exception.CustomRateLimitedException;
 import com.reliaquest.api.exception.EmpInternalServiceException;
+import com.reliaquest.api.metrics.EmployeeMetrics;
+import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import com.reliaquest.api.response.EmployeeListResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.response.EmployeeResponse;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static com.reliaquest.api.constants.EmployeeConstants.NEXT_CURSOR_HEADER;
+
 @Slf4j
 public class HelperUtils {
 
     static RetryBackoffSpec retrySpecs = getRetrySpecs();
 
-    @Value("${employee.service.base.url}")
-    private static String BASE_URL;
+    static final RequestCoalescer readCoalescer = new RequestCoalescer();
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
 
     public static RetryBackoffSpec getRetrySpecs() {
         return Retry.fixedDelay(5, Duration.ofSeconds(3))
                 .doBeforeRetry(beforeRetry -> {
                     log.error("Error while connecting to service, message: {}", beforeRetry.failure().getMessage());
+                    // Static context, so this goes through the global registry that Spring Boot binds its own to.
+                    Metrics.counter(EmployeeMetrics.UPSTREAM_RETRIES).increment();
                 })
                 .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests)
                 .onRetryExhaustedThrow((retrySpecs, retrySignal) -> handleCustomException(new EmpInternalServiceException(retrySignal.failure().getMessage()), "Service is Temporary Unavailable!"));
@@ -45,42 +67,151 @@ public class HelperUtils {
         if (e instanceof CustomCreateException) return (CustomCreateException) e;
         if (e instanceof CustomDeleteException) return (CustomDeleteException) e;
         if (e instanceof CustomNoDataFoundException) return (CustomNoDataFoundException) e;
+        if (e instanceof CustomCircuitOpenException) return (CustomCircuitOpenException) e;
+        if (e instanceof CustomInvalidRequestException) return (CustomInvalidRequestException) e;
+        if (e instanceof CustomRateLimitedException) return (CustomRateLimitedException) e;
         return new EmpInternalServiceException(operation + " : " + e.getMessage());
     }
 
-    public static <T> T processResponse(String response, Class<T> tempClass) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(response, tempClass);
+    /**
+     * The mapper shared by the WebClient JSON codecs and the streaming decoder. It is configured once here and must not
+     * be reconfigured afterwards, since readers derived from it are cached.
+     */
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
     }
 
-    public static void deleteEmployeeData(WebClient webClient, String name) {
-        log.info("Deleting data using url: {} ", BASE_URL);
+    /**
+     * Name-based delete, for upstreams that predate delete by id.
+     */
+    public static Mono<Void> deleteEmployeeDataAsync(WebClient webClient, String url, String name) {
+        log.info("Deleting data using url: {} ", url);
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("name", name);
-        webClient.method(HttpMethod.DELETE)
-                .uri(BASE_URL)
+        return webClient.method(HttpMethod.DELETE)
+                .uri(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(Mono.just(requestBody), HashMap.class)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, response -> Mono.error(new CustomDeleteException("Failed to delete employee")))
                 .toBodilessEntity()
                 .retryWhen(retrySpecs)
-                .block();
+                .then();
     }
 
-    public static String getEmployeeData(WebClient webClient, String url) {
-        log.info("Fetching data using url: {} ", url);
+    /**
+     * Deletes by id in a single call; the upstream answers with the deleted employee, or a 404 that fails with
+     * {@link CustomNoDataFoundException}.
+     */
+    public static Mono<EmployeeResponse> deleteEmployeeByIdAsync(WebClient webClient, String url) {
+        log.info("Deleting data using url: {} ", url);
+        return webClient.delete()
+                .uri(url)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                        response -> Mono.error(new CustomNoDataFoundException("No data found at " + url)))
+                .onStatus(HttpStatusCode::isError, response -> Mono.error(new CustomDeleteException("Failed to delete employee")))
+                .bodyToMono(EmployeeResponse.class)
+                .retryWhen(retrySpecs);
+    }
+
+    /**
+     * Fetches and parses {@code url}, sharing one upstream call and its parsed result between all concurrent callers
+     * asking for the same URL and type. The body is decoded straight from the response buffers by the WebClient's
+     * streaming JSON decoder, without an intermediate String. A 404 fails with {@link CustomNoDataFoundException}.
+     */
+    public static <T> Mono<T> getEmployeeDataAsync(WebClient webClient, String url, Class<T> tempClass) {
+        return readCoalescer.coalesce(tempClass.getName() + " " + url, () -> {
+            log.info("Fetching data using url: {} ", url);
+            return webClient.get()
+                    .uri(url)
+                    .retrieve()
+                    .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                            response -> Mono.error(new CustomNoDataFoundException("No data found at " + url)))
+                    .onStatus(HttpStatusCode::isError,
+                            response -> Mono.error(new EmpInternalServiceException("Failed to fetch employees data.")))
+                    .bodyToMono(tempClass)
+                    .retryWhen(retrySpecs);
+        });
+    }
+
+    /**
+     * Conditional GET of a list: sends {@code If-None-Match} when {@code eTag} is known, so an unchanged list comes
+     * back as a bodiless 304 instead of the full payload. Callers check the status and reuse their copy on 304.
+     */
+    public static Mono<ResponseEntity<EmployeeListResponse>> getEmployeeListAsync(WebClient webClient, String url,
+                                                                                   String eTag) {
+        log.info("Fetching data using url: {} (If-None-Match: {})", url, eTag);
         return webClient.get()
                 .uri(url)
+                .headers(headers -> {
+                    if (eTag != null) {
+                        headers.setIfNoneMatch(eTag);
+                    }
+                })
                 .retrieve()
                 .onStatus(HttpStatusCode::isError,
                         response -> Mono.error(new EmpInternalServiceException("Failed to fetch employees data.")))
-                .bodyToMono(String.class)
-                .retryWhen(retrySpecs)
-                .block();
+                .toEntity(EmployeeListResponse.class)
+                .retryWhen(retrySpecs);
     }
 
-    public static EmployeeResponse postEmployeeData(WebClient webClient, String url, EmployeeRequest employee) {
+    /**
+     * Fetches the upstream change feed, e.g. {@code {base-url}/changes?since=42}.
+     */
+    public static Mono<EmployeeChangesResponse.Changes> getEmployeeChangesAsync(WebClient webClient, String url) {
+        log.info("Fetching changes using url: {} ", url);
+        return webClient.get()
+                .uri(url)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError,
+                        response -> Mono.error(new EmpInternalServiceException("Failed to fetch employee changes.")))
+                .bodyToMono(EmployeeChangesResponse.class)
+                .map(EmployeeChangesResponse::getData)
+                .retryWhen(retrySpecs);
+    }
+
+    /**
+     * Fetches one page of a paged list query, with the cursor of the next page taken from the response header. A 400
+     * (bad cursor or parameter) fails with {@link CustomInvalidRequestException}.
+     */
+    public static Mono<EmployeePageResponse> getEmployeePageAsync(WebClient webClient, URI uri) {
+        return readCoalescer.coalesce("page " + uri, () -> {
+            log.info("Fetching page using url: {} ", uri);
+            return webClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .onStatus(status -> status.value() == HttpStatus.BAD_REQUEST.value(),
+                            response -> response.bodyToMono(String.class)
+                                    .defaultIfEmpty("")
+                                    .map(body -> new CustomInvalidRequestException("Invalid page request: " + body)))
+                    .onStatus(HttpStatusCode::isError,
+                            response -> Mono.error(new EmpInternalServiceException("Failed to fetch employees data.")))
+                    .toEntity(EmployeeListResponse.class)
+                    .map(entity -> new EmployeePageResponse(
+                            entity.getBody() == null ? List.of() : entity.getBody().getData(),
+                            entity.getHeaders().getFirst(NEXT_CURSOR_HEADER)))
+                    .retryWhen(retrySpecs);
+        });
+    }
+
+    /**
+     * Streams the employees of a list response as they are decoded, without materialising the whole list. Only 429s
+     * are retried, and those fail before any element has been emitted, so a retry never duplicates employees.
+     */
+    public static Flux<Employee> streamEmployeeData(WebClient webClient, String url) {
+        log.info("Streaming data using url: {} ", url);
+        return webClient.get()
+                .uri(url)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError,
+                        response -> Mono.error(new EmpInternalServiceException("Failed to fetch employees data.")))
+                .bodyToFlux(DataBuffer.class)
+                .transform(body -> EmployeeStreamDecoder.decode(body, OBJECT_MAPPER))
+                .retryWhen(retrySpecs);
+    }
+
+    public static Mono<EmployeeResponse> postEmployeeDataAsync(WebClient webClient, String url, EmployeeRequest employee) {
         log.info("Getting data from url: {} ", url);
         return webClient.post()
                 .uri(url)
@@ -89,7 +220,6 @@ public class HelperUtils {
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, response -> Mono.error(new CustomCreateException("Failed to create employee")))
                 .bodyToMono(EmployeeResponse.class)
-                .retryWhen(retrySpecs)
-                .block();
+                .retryWhen(retrySpecs);
     }
 }
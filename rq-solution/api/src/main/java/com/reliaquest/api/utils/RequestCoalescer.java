@@ -0,0 +1,43 @@
+package com.reliaquest.api.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of identical in-flight calls.
+ * <p>
+ * The first subscriber for a key starts the call; everyone who asks for the same key before it completes receives the
+ * same result (or error) instead of issuing their own. The key is released as soon as the call terminates, so nothing
+ * is cached beyond the lifetime of the shared call. Cancelling one subscriber does not cancel the shared call.
+ */
+@Slf4j
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(String key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Sinks.One<T> sink = Sinks.one();
+            Mono<T> shared = sink.asMono();
+            Mono<?> existing = inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                log.debug("Joining in-flight call for {}", key);
+                return (Mono<T>) existing;
+            }
+            call.get()
+                    .doFinally(signal -> inFlight.remove(key, shared))
+                    .subscribe(sink::tryEmitValue, sink::tryEmitError, sink::tryEmitEmpty);
+            return shared;
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
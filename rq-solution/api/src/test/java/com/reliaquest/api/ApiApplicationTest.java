@@ -2,7 +2,11 @@ package com.reliaquest.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.EmployeePageRequest;
 import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.EmployeeBatchResponse;
+import com.reliaquest.api.response.EmployeeBulkCreateResponse;
+import com.reliaquest.api.response.EmployeePageResponse;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,13 +15,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -60,6 +67,37 @@ public class ApiApplicationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].employee_name").value(name));
     }
 
+    @Test
+    void testgetAllEmployees_Paged_OK() throws Exception {
+        EmployeePageRequest pageRequest = new EmployeePageRequest(10, null, "salary", "desc", 3000, null, null, null,
+                null, null);
+        when(iEmployeeService.getEmployeesPage(pageRequest))
+                .thenReturn(new EmployeePageResponse(List.of(employee), "next-page"));
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/v1/employee/all")
+                        .param("limit", "10")
+                        .param("sort", "salary")
+                        .param("order", "desc")
+                        .param("minSalary", "3000"))
+                .andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("X-Next-Cursor", "next-page"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].employee_name").value(name));
+    }
+
+    @Test
+    void teststreamAllEmployees_OK() throws Exception {
+        when(iEmployeeService.streamAllEmployees())
+                .thenReturn(Flux.just(employee));
+        MvcResult mvcResult = this.mockMvc.perform(MockMvcRequestBuilders.get("/v1/employee/all")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(containsString("\"employee_name\":\"Pooja\"")));
+    }
+
     @Test
     void testgetEmployeeById_OK() throws Exception {
         String uuid = "42d1bee9-3e39-4479-acdd-020224052403";
@@ -71,6 +109,21 @@ public class ApiApplicationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.employee_name").value(name));
     }
 
+    @Test
+    void testgetEmployeesByIds_OK() throws Exception {
+        String missingId = "42d1bee9-3e39-4479-acdd-020224052403";
+        List<String> ids = List.of(employee.getId(), missingId);
+        when(iEmployeeService.getEmployeesByIds(ids))
+                .thenReturn(new EmployeeBatchResponse(List.of(employee), List.of(missingId), List.of()));
+        this.mockMvc.perform(MockMvcRequestBuilders.post("/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(ids)))
+                .andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_name").value(name))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.notFound[0]").value(missingId));
+    }
+
     @Test
     void testgetEmployeeHighestSalary_OK() throws Exception {
         when(iEmployeeService.getHighestSalaryOfEmployees())
@@ -89,9 +142,27 @@ public class ApiApplicationTest {
                 .andExpect(MockMvcResultMatchers.status().isOk());
     }
 
+    @Test
+    void testcreateEmployees_PartialFailure_OK() throws Exception {
+        EmployeeRequest invalidEmployee = new EmployeeRequest("", 4000, 25, "Sr.MTS");
+        List<EmployeeRequest> employees = List.of(createEmployee, invalidEmployee);
+        when(iEmployeeService.createEmployees(employees))
+                .thenReturn(new EmployeeBulkCreateResponse(1, 1, List.of(
+                        new EmployeeBulkCreateResponse.Result(0, employee, null),
+                        new EmployeeBulkCreateResponse.Result(1, null, "Failed to create employee"))));
+        this.mockMvc.perform(MockMvcRequestBuilders.post("/v1/employee/create/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(employees)))
+                .andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[0].data.employee_name").value(name))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results[1].error").value("Failed to create employee"));
+    }
+
     @Test
     void testgetEmployeeByNameSearch_OK() throws Exception {
-        when(iEmployeeService.getEmployeesByNameSearch(name))
+        when(iEmployeeService.getEmployeesByNameSearch(name, false, false))
                 .thenReturn(List.of(employee));
         this.mockMvc.perform(MockMvcRequestBuilders.get("/v1/employee/name/" + name))
                 .andDo(print())
@@ -99,6 +170,18 @@ public class ApiApplicationTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].employee_name").value(name));
     }
 
+    @Test
+    void testgetEmployeeByNameSearch_IgnoreCasePrefix_OK() throws Exception {
+        when(iEmployeeService.getEmployeesByNameSearch("poo", true, true))
+                .thenReturn(List.of(employee));
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/v1/employee/name/poo")
+                        .param("ignoreCase", "true")
+                        .param("prefix", "true"))
+                .andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].employee_name").value(name));
+    }
+
     @Test
     void testcreateEmployee_OK() throws Exception {
         when(iEmployeeService.createEmployee(createEmployee)).thenReturn(
@@ -171,7 +254,7 @@ public class ApiApplicationTest {
 
     @Test
     void testgetEmployeeByNameSearch_RunTimeException() throws Exception {
-        when(iEmployeeService.getEmployeesByNameSearch(null))
+        when(iEmployeeService.getEmployeesByNameSearch(null, false, false))
                 .thenThrow(new RuntimeException("Unable to access resource"));
         this.mockMvc.perform(MockMvcRequestBuilders.get("/v1/employee/name"))
                 .andExpect(MockMvcResultMatchers.status().is4xxClientError());
@@ -179,7 +262,7 @@ public class ApiApplicationTest {
 
     @Test
     void testgetEmployeeByNameSearch_IOException() throws Exception {
-        when(iEmployeeService.getEmployeesByNameSearch(null))
+        when(iEmployeeService.getEmployeesByNameSearch(null, false, false))
                 .thenThrow(new Exception("Server Error Occurred"));
         this.mockMvc.perform(MockMvcRequestBuilders.get("/v1/employee/name"))
                 .andExpect(MockMvcResultMatchers.status().is4xxClientError());
@@ -0,0 +1,61 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.when;
+
+/**
+ * Boots the {@code reactive} profile on a real port, so the non-blocking controller is exercised on the server it is
+ * meant to run on.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+public class ReactiveApiApplicationTest {
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    EmployeeServiceImpl employeeService;
+
+    Employee employee = new Employee("d8d67f81-dc0c-40ea-99a2-05640c4cef2a", "Pooja",
+            4000, 23, "Sr.MTS", "test@test.com");
+
+    @Test
+    void testServesFromNetty() {
+        assertInstanceOf(NettyWebServer.class, context.getWebServer());
+    }
+
+    @Test
+    void testgetEmployeeById_OK() {
+        when(employeeService.getEmployeeByIdReactive(employee.getId())).thenReturn(Mono.just(employee));
+        webTestClient.get().uri("/v1/employee/{id}", employee.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employee_name").isEqualTo("Pooja");
+    }
+
+    @Test
+    void testdeleteEmployeeById_OK() {
+        when(employeeService.deleteEmployeeByIdReactive(employee.getId())).thenReturn(Mono.just("Pooja"));
+        webTestClient.delete().uri("/v1/employee/delete/{id}", employee.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Pooja");
+    }
+}
@@ -0,0 +1,229 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.reliaquest.api.constants.EmployeeConstants.ROSTER_VERSION_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EmployeeRosterCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final Duration REFRESH_AHEAD = Duration.ofSeconds(10);
+    private static final Duration MAX_STALE = Duration.ofMinutes(10);
+
+    @TempDir
+    Path directory;
+
+    private final Instant loadedAt = Instant.parse("2024-05-01T10:15:30Z");
+
+    private final List<Employee> employees = List.of(
+            new Employee("d8d67f81-dc0c-40ea-99a2-05640c4cef2a", "Pooja", 4000, 23, "Sr.MTS", "test@test.com"));
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final WebClient unavailableUpstream = WebClient.builder()
+            .exchangeFunction(request -> {
+                upstreamCalls.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+            })
+            .build();
+
+    private final MutableClock clock = new MutableClock();
+
+    private RosterSnapshotFile snapshotFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshotFile = new RosterSnapshotFile(directory.resolve("roster.snapshot"));
+        snapshotFile.write(RosterSnapshot.of(3, employees, loadedAt));
+    }
+
+    @Test
+    void testRestoredSnapshotIsServedStaleAndRefreshesArePaced() {
+        clock.now = loadedAt.plus(Duration.ofMinutes(2));
+        EmployeeRosterCache cache = restoredCache();
+
+        StaleDataMarker marker = new StaleDataMarker();
+        RosterSnapshot served = cache.snapshot().contextWrite(marker::into).block();
+
+        assertEquals(3, served.version());
+        assertTrue(marker.isStale());
+        assertEquals(1, upstreamCalls.get());
+
+        for (int i = 0; i < 100; i++) {
+            cache.snapshot().block();
+        }
+        assertEquals(1, upstreamCalls.get());
+
+        clock.now = clock.now.plus(REFRESH_AHEAD);
+        cache.snapshot().block();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void testRestoredSnapshotIsHeldToMaxStaleFromItsLoadTime() {
+        clock.now = loadedAt.plus(TTL).plus(MAX_STALE).plusSeconds(1);
+        EmployeeRosterCache cache = restoredCache();
+
+        assertTrue(cache.peekStale().isEmpty());
+        assertThrows(RuntimeException.class, () -> cache.snapshot().block());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void testExpiredSnapshotIsNotRetriedBeforeRefreshAhead() {
+        clock.now = loadedAt.plus(Duration.ofMinutes(2));
+        EmployeeRosterCache cache = restoredCache();
+        cache.invalidate();
+
+        StaleDataMarker marker = new StaleDataMarker();
+        cache.snapshot().contextWrite(marker::into).block();
+        assertTrue(marker.isStale());
+        assertEquals(1, upstreamCalls.get());
+
+        cache.snapshot().block();
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void testFreshReadIsNotMarkedStale() {
+        clock.now = loadedAt;
+        WebClient upstream = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header("Content-Type", "application/json")
+                        .body("{\"data\":[{\"id\":\"d8d67f81-dc0c-40ea-99a2-05640c4cef2a\",\"employee_name\":\"Pooja\"}]}")
+                        .build()))
+                .build();
+        EmployeeRosterCache cache = new EmployeeRosterCache(upstream, "http://localhost/api/v1/employee", TTL,
+                REFRESH_AHEAD, MAX_STALE, null, Duration.ofHours(1), true, clock);
+
+        StaleDataMarker marker = new StaleDataMarker();
+        RosterSnapshot served = cache.snapshot().contextWrite(marker::into).block();
+
+        assertEquals(1, served.employees().size());
+        assertFalse(marker.isStale());
+    }
+
+    @Test
+    void testNotModifiedRosterIsRevalidatedWithoutReparsing() {
+        clock.now = loadedAt;
+        List<String> ifNoneMatch = new ArrayList<>();
+        WebClient upstream = WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    String eTag = request.headers().getFirst(HttpHeaders.IF_NONE_MATCH);
+                    ifNoneMatch.add(eTag);
+                    if ("W/\"7\"".equals(eTag)) {
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                            .header(HttpHeaders.ETAG, "W/\"7\"")
+                            .body("{\"data\":[{\"id\":\"d8d67f81-dc0c-40ea-99a2-05640c4cef2a\",\"employee_name\":\"Pooja\"}]}")
+                            .build());
+                })
+                .build();
+        EmployeeRosterCache cache = new EmployeeRosterCache(upstream, "http://localhost/api/v1/employee", TTL,
+                REFRESH_AHEAD, MAX_STALE, null, Duration.ofHours(1), false, clock);
+
+        RosterSnapshot loaded = cache.snapshot().block();
+
+        clock.now = loadedAt.plus(TTL).plusSeconds(1);
+        RosterSnapshot revalidated = cache.snapshot().block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(Arrays.asList(null, "W/\"7\""), ifNoneMatch);
+        assertEquals(loaded.version(), revalidated.version());
+        assertSame(loaded.employees(), revalidated.employees());
+        assertEquals(clock.now, revalidated.loadedAt());
+        assertSame(revalidated, cache.peek().orElseThrow());
+    }
+
+    @Test
+    void testCreateAlreadyAppliedFromTheChangeFeedIsNotAddedTwice() {
+        clock.now = loadedAt;
+        Employee created = new Employee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Rahul", 3000, 30, "MTS",
+                "rahul@test.com");
+        WebClient upstream = WebClient.builder()
+                .exchangeFunction(request -> {
+                    if (request.url().getPath().endsWith("/changes")) {
+                        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                .body("{\"data\":{\"version\":8,\"resync\":false,\"changes\":[{\"version\":8,"
+                                        + "\"type\":\"CREATED\",\"employee\":{\"id\":\"" + created.getId()
+                                        + "\",\"employee_name\":\"Rahul\"}}]}}")
+                                .build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                            .header(ROSTER_VERSION_HEADER, "7")
+                            .body("{\"data\":[{\"id\":\"d8d67f81-dc0c-40ea-99a2-05640c4cef2a\",\"employee_name\":\"Pooja\"}]}")
+                            .build());
+                })
+                .build();
+        EmployeeRosterCache cache = new EmployeeRosterCache(upstream, "http://localhost/api/v1/employee", TTL,
+                REFRESH_AHEAD, MAX_STALE, null, Duration.ofHours(1), true, clock);
+        cache.snapshot().block();
+
+        clock.now = loadedAt.plus(TTL).plusSeconds(1);
+        RosterSnapshot refreshed = cache.snapshot().block();
+        assertEquals(2, refreshed.employees().size());
+
+        cache.onEmployeeCreated(created);
+
+        RosterSnapshot afterCreate = cache.peek().orElseThrow();
+        assertSame(refreshed, afterCreate);
+        assertEquals(1, afterCreate.employees().stream().filter(e -> e.getId().equals(created.getId())).count());
+    }
+
+    private EmployeeRosterCache restoredCache() {
+        EmployeeRosterCache cache = new EmployeeRosterCache(unavailableUpstream, "http://localhost/api/v1/employee", TTL,
+                REFRESH_AHEAD, MAX_STALE, snapshotFile, Duration.ofHours(1), true, clock);
+        cache.restore();
+        return cache;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
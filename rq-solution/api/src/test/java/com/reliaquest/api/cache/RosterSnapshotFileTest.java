@@ -0,0 +1,82 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RosterSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    private final Instant loadedAt = Instant.parse("2024-05-01T10:15:30Z");
+
+    private final List<Employee> employees = List.of(
+            new Employee("d8d67f81-dc0c-40ea-99a2-05640c4cef2a", "Pooja", 4000, 23, "Sr.MTS", "test@test.com"),
+            new Employee("42d1bee9-3e39-4479-acdd-020224052403", "Zo\u00eb \u00c5ngstr\u00f6m", null, null, null, null));
+
+    @Test
+    void testRoundTrip() throws IOException {
+        RosterSnapshotFile file = new RosterSnapshotFile(directory.resolve("roster.snapshot"));
+        file.write(RosterSnapshot.of(7, employees, loadedAt));
+
+        RosterSnapshot restored = file.read().orElseThrow();
+
+        assertEquals(7, restored.version());
+        assertEquals(loadedAt, restored.loadedAt());
+        assertEquals(employees, restored.employees());
+        assertEquals("Zo\u00eb \u00c5ngstr\u00f6m", restored.findById("42d1bee9-3e39-4479-acdd-020224052403").orElseThrow()
+                .getEmployee_name());
+    }
+
+    @Test
+    void testOverwriteReplacesPreviousSnapshot() throws IOException {
+        RosterSnapshotFile file = new RosterSnapshotFile(directory.resolve("nested/roster.snapshot"));
+        file.write(RosterSnapshot.of(1, employees, loadedAt));
+        file.write(RosterSnapshot.of(2, employees.subList(0, 1), loadedAt));
+
+        RosterSnapshot restored = file.read().orElseThrow();
+
+        assertEquals(2, restored.version());
+        assertEquals(1, restored.employees().size());
+    }
+
+    @Test
+    void testMissingFileIsEmpty() {
+        assertEquals(Optional.empty(), new RosterSnapshotFile(directory.resolve("absent.snapshot")).read());
+    }
+
+    @Test
+    void testCorruptedFileIsEmpty() throws IOException {
+        Path path = directory.resolve("roster.snapshot");
+        RosterSnapshotFile file = new RosterSnapshotFile(path);
+        file.write(RosterSnapshot.of(1, employees, loadedAt));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(path, bytes);
+
+        assertTrue(file.read().isEmpty());
+    }
+
+    @Test
+    void testTruncatedFileIsEmpty() throws IOException {
+        Path path = directory.resolve("roster.snapshot");
+        RosterSnapshotFile file = new RosterSnapshotFile(path);
+        file.write(RosterSnapshot.of(1, employees, loadedAt));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 12));
+
+        assertTrue(file.read().isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeChangesResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RosterSnapshotTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant NOW = LOADED_AT.plusSeconds(30);
+
+    private static Employee employee(String id, int salary) {
+        return new Employee(id, "name-" + id, salary, 30, "Engineer", id + "@company.com");
+    }
+
+    private static EmployeeChangesResponse.Change created(long version, Employee employee) {
+        return new EmployeeChangesResponse.Change(version, EmployeeChangesResponse.Change.CREATED, employee);
+    }
+
+    private static EmployeeChangesResponse.Change deleted(long version, Employee employee) {
+        return new EmployeeChangesResponse.Change(version, EmployeeChangesResponse.Change.DELETED, employee);
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void testWithChangesAppliesCreatesAndDeletesInOrder() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(employee("a", 100), employee("b", 300)), LOADED_AT);
+
+        RosterSnapshot updated = snapshot.withChanges(List.of(
+                created(11, employee("c", 500)),
+                deleted(12, employee("a", 100)),
+                created(13, employee("d", 200)),
+                deleted(14, employee("d", 200))), NOW);
+
+        assertEquals(2, updated.version());
+        assertEquals(NOW, updated.loadedAt());
+        assertEquals(List.of("b", "c"), ids(updated.employees()));
+        assertEquals(List.of("c", "b"), ids(updated.salaryIndex().top(10)));
+        assertEquals(List.of("c"), ids(updated.searchByName("name-c", false, false)));
+        assertEquals(0, updated.searchByName("name-a", false, false).size());
+    }
+
+    @Test
+    void testWithChangesRecreatesIdDeletedInTheSameFeed() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(employee("a", 100), employee("b", 300)), LOADED_AT);
+
+        RosterSnapshot updated = snapshot.withChanges(List.of(
+                deleted(11, employee("a", 100)),
+                created(12, employee("a", 700))), NOW);
+
+        assertEquals(List.of("b", "a"), ids(updated.employees()));
+        assertEquals(700, updated.findById("a").orElseThrow().getEmployee_salary());
+        assertEquals(List.of("a", "b"), ids(updated.salaryIndex().top(10)));
+        assertEquals(700, updated.salaryIndex().highestSalary().getAsInt());
+        assertEquals(1, updated.searchByName("name-a", false, false).size());
+
+        RosterSnapshot deletedAgain = updated.withChanges(List.of(
+                deleted(13, employee("a", 700)),
+                created(14, employee("a", 50)),
+                deleted(15, employee("a", 50))), NOW);
+
+        assertEquals(List.of("b"), ids(deletedAgain.employees()));
+        assertEquals(List.of("b"), ids(deletedAgain.salaryIndex().top(10)));
+    }
+
+    @Test
+    void testWithChangesSkipsChangesAlreadyApplied() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(employee("a", 100)), LOADED_AT)
+                .withCreated(employee("b", 200))
+                .withDeleted("a");
+
+        RosterSnapshot updated = snapshot.withChanges(List.of(
+                created(11, employee("b", 200)),
+                deleted(12, employee("a", 100))), NOW);
+
+        assertEquals(snapshot.version(), updated.version());
+        assertSame(snapshot.employees(), updated.employees());
+        assertEquals(NOW, updated.loadedAt());
+    }
+
+    @Test
+    void testWritesLeaveEarlierSnapshotsUntouched() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(employee("a", 100), employee("b", 300)), LOADED_AT);
+
+        RosterSnapshot created = snapshot.withCreated(employee("c", 500));
+        RosterSnapshot deleted = created.withDeleted("a");
+
+        assertTrue(snapshot.findById("c").isEmpty());
+        assertEquals("c", created.findById("c").orElseThrow().getId());
+        assertEquals("a", created.findById("a").orElseThrow().getId());
+        assertTrue(deleted.findById("a").isEmpty());
+        assertEquals(List.of("b", "c"), ids(deleted.employees()));
+        assertSame(deleted, deleted.withDeleted("a"));
+        assertSame(deleted, deleted.withCreated(employee("b", 300)));
+    }
+
+    @Test
+    void testWithChangesRebuildsIndexesForLargeBatches() {
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(employee("a", 100)), LOADED_AT);
+        List<EmployeeChangesResponse.Change> changes = IntStream.range(0, 100)
+                .mapToObj(i -> created(10 + i, employee("n" + i, 1000 + i)))
+                .collect(Collectors.toList());
+
+        RosterSnapshot updated = snapshot.withChanges(changes, NOW);
+
+        assertEquals(101, updated.employees().size());
+        assertEquals(1099, updated.salaryIndex().highestSalary().getAsInt());
+        assertEquals("n99", updated.findById("n99").orElseThrow().getId());
+    }
+}
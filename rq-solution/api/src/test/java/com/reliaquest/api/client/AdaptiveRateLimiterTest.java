@@ -0,0 +1,108 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.CustomErrorResponse;
+import com.reliaquest.api.exception.CustomRateLimitedException;
+import com.reliaquest.api.exception.GenericExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private AdaptiveRateLimiter limiter(double initialRate, Duration maxWait) {
+        return new AdaptiveRateLimiter(true, initialRate, 0.5, 20, 4, 1, 0.5, maxWait, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void testBurstThenSpacedPermits() {
+        AdaptiveRateLimiter limiter = limiter(2, Duration.ofSeconds(30));
+
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ofMillis(500), limiter.reserve());
+        assertEquals(Duration.ofMillis(1000), limiter.reserve());
+
+        advance(Duration.ofSeconds(2));
+        assertEquals(Duration.ZERO, limiter.reserve());
+    }
+
+    @Test
+    void testThrottlingHalvesRateOncePerSecond() {
+        AdaptiveRateLimiter limiter = limiter(8, Duration.ofSeconds(30));
+
+        limiter.onThrottled(null);
+        limiter.onThrottled(null);
+        assertEquals(4, limiter.currentRate());
+
+        advance(Duration.ofSeconds(1));
+        limiter.onThrottled(null);
+        assertEquals(2, limiter.currentRate());
+
+        limiter.onSuccess();
+        assertEquals(3, limiter.currentRate());
+    }
+
+    @Test
+    void testRetryAfterPausesAndMaxWaitRejects() {
+        AdaptiveRateLimiter limiter = limiter(2, Duration.ofSeconds(5));
+
+        limiter.onThrottled(Duration.ofSeconds(10));
+        CustomRateLimitedException rejected = assertThrows(CustomRateLimitedException.class, limiter::reserve);
+        assertTrue(rejected.getRetryAfter().compareTo(Duration.ofSeconds(10)) >= 0);
+
+        advance(Duration.ofSeconds(8));
+        Duration wait = limiter.reserve();
+        assertTrue(wait.compareTo(Duration.ofSeconds(2)) >= 0 && wait.compareTo(Duration.ofSeconds(5)) <= 0);
+    }
+
+    @Test
+    void testRejectedExchangeIsNotSentAndAnswered429WithRetryAfter() {
+        AdaptiveRateLimiter limiter = limiter(2, Duration.ofSeconds(5));
+        // 7.5s pause plus 1s for the first token at the halved rate, rounded up.
+        limiter.onThrottled(Duration.ofMillis(7500));
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://upstream/employee")).build();
+
+        StepVerifier.create(limiter.filter().filter(request, sent -> {
+                    throw new AssertionError("rate limited request reached the upstream");
+                }))
+                .expectErrorSatisfies(error -> {
+                    ResponseEntity<CustomErrorResponse> response = new GenericExceptionHandler()
+                            .handleRateLimitedException((CustomRateLimitedException) error);
+                    assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+                    assertEquals("9", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                })
+                .verify();
+    }
+
+    @Test
+    void testPermittedExchangeIsSent() {
+        AdaptiveRateLimiter limiter = limiter(2, Duration.ofSeconds(5));
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://upstream/employee")).build();
+
+        StepVerifier.create(limiter.filter().filter(request,
+                        sent -> Mono.just(ClientResponse.create(HttpStatus.OK).build())))
+                .expectNextMatches(response -> response.statusCode().value() == 200)
+                .verifyComplete();
+        assertEquals(3, limiter.currentRate());
+    }
+}
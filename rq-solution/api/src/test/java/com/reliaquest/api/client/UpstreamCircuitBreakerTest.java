@@ -0,0 +1,78 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UpstreamCircuitBreakerTest {
+
+    private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    };
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(true, 3, Duration.ofSeconds(30), clock);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpenAllowsOneProbe() {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(true, 1, Duration.ofSeconds(30), clock);
+        breaker.onFailure();
+
+        now = now.plusSeconds(30);
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void testFailedProbeReopens() {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker(true, 1, Duration.ofSeconds(30), clock);
+        breaker.onFailure();
+        now = now.plusSeconds(31);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+        now = now.plusSeconds(29);
+        assertFalse(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdIndexTest {
+
+    private final Employee tiger = new Employee("1", "Tiger Nixon", 320800, 61, "Chair", "tnixon@company.com");
+    private final Employee bill = new Employee("2", "Bill Bob", 89750, 24, "Engineer", "billbob@company.com");
+    private final Employee jill = new Employee("3", "Jill Jenkins", 139082, 48, "Advisor", "jillj@company.com");
+
+    @Test
+    void testPatchesLeaveEarlierIndexesUntouched() {
+        IdIndex before = IdIndex.build(List.of(tiger, bill));
+
+        IdIndex after = before.with(jill).without("1");
+
+        assertSame(tiger, before.get("1"));
+        assertNull(before.get("3"));
+        assertNull(after.get("1"));
+        assertSame(bill, after.get("2"));
+        assertSame(jill, after.get("3"));
+    }
+
+    @Test
+    void testWithoutUnknownIdReturnsTheSameIndex() {
+        IdIndex index = IdIndex.build(List.of(tiger));
+
+        assertSame(index, index.without("42"));
+        assertFalse(index.contains("42"));
+        assertTrue(index.contains("1"));
+    }
+
+    @Test
+    void testPatchedIndexAnswersLikeARebuild() {
+        Random random = new Random(7);
+        List<Employee> roster = new ArrayList<>();
+        IdIndex patched = IdIndex.build(roster);
+        for (int i = 0; i < 2_000; i++) {
+            if (roster.isEmpty() || random.nextInt(3) > 0) {
+                Employee employee = new Employee(String.valueOf(i), "Employee " + i, 1000, 30, "Engineer",
+                        "e" + i + "@company.com");
+                roster.add(employee);
+                patched = patched.with(employee);
+            } else {
+                patched = patched.without(roster.remove(random.nextInt(roster.size())).getId());
+            }
+        }
+
+        IdIndex rebuilt = IdIndex.build(roster);
+        for (int i = 0; i < 2_000; i++) {
+            String id = String.valueOf(i);
+            assertSame(rebuilt.get(id), patched.get(id), id);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NameIndexTest {
+
+    private final Employee tiger = new Employee("1", "Tiger Nixon", 320800, 61, "Chair", "tnixon@company.com");
+    private final Employee bill = new Employee("2", "Bill Bob", 89750, 24, "Engineer", "billbob@company.com");
+    private final Employee jill = new Employee("3", "Jill Jenkins", 139082, 48, "Advisor", "jillj@company.com");
+
+    private static List<String> search(NameIndex index, List<Employee> roster, String query, boolean ignoreCase,
+                                       boolean prefix) {
+        return index.candidates(query, prefix).orElse(roster).stream()
+                .filter(employee -> NameIndex.matches(employee.getEmployee_name(), query, ignoreCase, prefix))
+                .map(Employee::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testSubstringSearchIsCaseSensitiveByDefault() {
+        List<Employee> roster = List.of(tiger, bill, jill);
+        NameIndex index = NameIndex.build(roster);
+
+        assertEquals(List.of("2", "3"), search(index, roster, "ill", false, false));
+        assertEquals(List.of(), search(index, roster, "NIXON", false, false));
+        assertEquals(List.of("1"), search(index, roster, "NIXON", true, false));
+    }
+
+    @Test
+    void testPrefixSearch() {
+        List<Employee> roster = List.of(tiger, bill, jill);
+        NameIndex index = NameIndex.build(roster);
+
+        assertEquals(List.of("2"), search(index, roster, "Bi", false, true));
+        assertEquals(List.of("3"), search(index, roster, "jill", true, true));
+        assertEquals(List.of(), search(index, roster, "Nixon", false, true));
+    }
+
+    @Test
+    void testShortQueriesFallBackToScan() {
+        NameIndex index = NameIndex.build(List.of(tiger));
+
+        assertFalse(index.candidates("ig", false).isPresent());
+        assertTrue(index.candidates("Tig", false).isPresent());
+    }
+
+    @Test
+    void testWithAndWithout() {
+        List<Employee> roster = List.of(tiger, bill);
+        NameIndex index = NameIndex.build(roster).with(jill).without(bill);
+
+        assertEquals(List.of("3"), search(index, List.of(tiger, jill), "ill", false, false));
+    }
+
+    @Test
+    void testPatchesLeaveEarlierIndexesUntouched() {
+        List<Employee> roster = List.of(tiger, bill);
+        NameIndex before = NameIndex.build(roster);
+
+        NameIndex after = before.with(jill).without(tiger);
+
+        assertEquals(List.of("2"), search(before, roster, "ill", false, false));
+        assertEquals(List.of("1"), search(before, roster, "Nix", false, false));
+        assertEquals(List.of("2", "3"), search(after, List.of(bill, jill), "ill", false, false));
+        assertEquals(List.of(), search(after, List.of(bill, jill), "Nix", false, false));
+    }
+
+    @Test
+    void testPatchedIndexAnswersLikeARebuild() {
+        Random random = new Random(3);
+        String[] names = {"Tiger Nixon", "Bill Bob", "Jill Jenkins", "Ann Annable", "Nick Nixon", "Ann"};
+        List<Employee> roster = new ArrayList<>();
+        NameIndex patched = NameIndex.build(roster);
+        for (int i = 0; i < 2_000; i++) {
+            if (roster.isEmpty() || random.nextInt(3) > 0) {
+                Employee employee = new Employee(String.valueOf(i), names[random.nextInt(names.length)], 1000, 30,
+                        "Engineer", "e" + i + "@company.com");
+                roster.add(employee);
+                patched = patched.with(employee);
+            } else {
+                patched = patched.without(roster.remove(random.nextInt(roster.size())));
+            }
+        }
+
+        NameIndex rebuilt = NameIndex.build(roster);
+        for (String query : List.of("ill", "Nix", "nix", "Ann", "nn", "Bob", "Tig", "xyz")) {
+            for (boolean prefix : new boolean[]{false, true}) {
+                assertEquals(rebuilt.candidates(query, prefix), patched.candidates(query, prefix), query);
+                assertEquals(search(rebuilt, roster, query, true, prefix), search(patched, roster, query, true, prefix),
+                        query);
+            }
+        }
+    }
+}
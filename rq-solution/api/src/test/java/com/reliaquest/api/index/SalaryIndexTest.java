@@ -0,0 +1,64 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SalaryIndexTest {
+
+    private static Employee employee(String id, Integer salary) {
+        return new Employee(id, "name-" + id, salary, 30, "Engineer", id + "@company.com");
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void testTopAndHighestSalary() {
+        SalaryIndex index = SalaryIndex.build(List.of(
+                employee("a", 100), employee("b", 300), employee("c", 200), employee("d", null)));
+
+        assertEquals(3, index.size());
+        assertEquals(300, index.highestSalary().getAsInt());
+        assertEquals(List.of("b", "c"), ids(index.top(2)));
+        assertEquals(List.of("b", "c", "a"), ids(index.top(10)));
+    }
+
+    @Test
+    void testTiesKeepRosterOrder() {
+        SalaryIndex index = SalaryIndex.build(List.of(employee("a", 100), employee("b", 100)))
+                .with(employee("c", 100));
+
+        assertEquals(List.of("a", "b", "c"), ids(index.top(10)));
+    }
+
+    @Test
+    void testWithAndWithout() {
+        Employee richest = employee("x", 500);
+        SalaryIndex index = SalaryIndex.build(List.of(employee("a", 100), employee("b", 200)))
+                .with(richest)
+                .with(employee("c", 150));
+
+        assertEquals(List.of("x", "b", "c", "a"), ids(index.top(10)));
+
+        SalaryIndex removed = index.without(richest);
+        assertEquals(200, removed.highestSalary().getAsInt());
+        assertEquals(List.of("b", "c", "a"), ids(removed.top(10)));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testEmptyIndex() {
+        SalaryIndex index = SalaryIndex.build(List.of());
+
+        assertTrue(index.highestSalary().isEmpty());
+        assertTrue(index.top(10).isEmpty());
+        assertTrue(index.without(employee("a", 100)).top(10).isEmpty());
+    }
+}
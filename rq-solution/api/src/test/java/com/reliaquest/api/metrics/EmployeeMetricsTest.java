@@ -0,0 +1,137 @@
+package com.reliaquest.api.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EmployeeMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final EmployeeMetrics metrics = new EmployeeMetrics(registry);
+
+    @Test
+    void testTimeOperationRecordsOutcome() {
+        metrics.timeOperation("getEmployeeById", () -> Mono.just("ok")).block();
+        metrics.timeOperation("getEmployeeById", () -> Mono.error(new IllegalStateException()))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        assertEquals(1L, registry.get("employee.service.operation")
+                .tags("operation", "getEmployeeById", "outcome", "success").timer().count());
+        assertEquals(1L, registry.get("employee.service.operation")
+                .tags("operation", "getEmployeeById", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void testTimeStreamRecordsOnCompletion() {
+        metrics.timeStream("streamAllEmployees", () -> Flux.just(1, 2, 3)).blockLast();
+
+        assertEquals(1L, registry.get("employee.service.operation")
+                .tags("operation", "streamAllEmployees", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void testTimeOperationIsLazy() {
+        AtomicLong calls = new AtomicLong();
+        Mono<Long> timed = metrics.timeOperation("getAllEmployees", () -> Mono.fromSupplier(calls::incrementAndGet));
+
+        assertEquals(0L, calls.get());
+        timed.block();
+        assertEquals(1L, calls.get());
+    }
+
+    @Test
+    void testHitRatio() {
+        AtomicLong hits = new AtomicLong(3);
+        AtomicLong misses = new AtomicLong(1);
+        metrics.registerHitRatio("roster", hits, misses);
+
+        assertEquals(0.75, registry.get("employee.cache.hit.ratio").tag("cache", "roster").gauge().value());
+    }
+
+    @Test
+    void testUpstreamCallIsInFlightUntilItsBodyCompletes() {
+        WebClient client = upstream(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", "text/plain")
+                .body("roster")
+                .build()));
+
+        String body = client.get().uri("http://localhost/api/v1/employee")
+                .exchangeToMono(response -> {
+                    assertEquals(1.0, inFlight());
+                    return response.bodyToMono(String.class);
+                })
+                .block();
+
+        assertEquals("roster", body);
+        assertEquals(0.0, inFlight());
+        assertEquals(1L, registry.get("employee.upstream.requests")
+                .tags("method", "GET", "route", "/api/v1/employee", "status", "200").timer().count());
+    }
+
+    @Test
+    void testCancelledBodyLeavesFlight() {
+        Flux<DataBuffer> endless = Flux.concat(
+                Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("[".getBytes(StandardCharsets.UTF_8))),
+                Flux.never());
+        WebClient client = upstream(request -> Mono.just(ClientResponse.create(HttpStatus.OK).body(endless).build()));
+
+        Disposable reading = client.get().uri("http://localhost/api/v1/employee/stream")
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .subscribe();
+        assertEquals(1.0, inFlight());
+
+        reading.dispose();
+        assertEquals(0.0, inFlight());
+    }
+
+    @Test
+    void testFailedCallsLeaveFlightOnce() {
+        WebClient unavailable = upstream(request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                .body("busy")
+                .build()));
+        WebClient unreachable = upstream(request -> Mono.error(new IOException("connection refused")));
+
+        assertThrows(WebClientResponseException.class, () -> unavailable.get().uri("http://localhost/api/v1/employee")
+                .retrieve()
+                .toBodilessEntity()
+                .block());
+        assertEquals(0.0, inFlight());
+
+        assertThrows(RuntimeException.class, () -> unreachable.get().uri("http://localhost/api/v1/employee")
+                .retrieve()
+                .toBodilessEntity()
+                .block());
+        assertEquals(0.0, inFlight());
+        assertEquals(1L, registry.get("employee.upstream.requests").tag("status", "503").timer().count());
+        assertEquals(1L, registry.get("employee.upstream.requests").tag("status", "IO_ERROR").timer().count());
+    }
+
+    private WebClient upstream(ExchangeFunction exchange) {
+        return WebClient.builder()
+                .exchangeFunction(exchange)
+                .filter(metrics.upstreamFilter())
+                .build();
+    }
+
+    private double inFlight() {
+        return registry.get("employee.upstream.in.flight").gauge().value();
+    }
+}
@@ -0,0 +1,323 @@
+package com.reliaquest.api.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.exception.CustomInvalidRequestException;
+import com.reliaquest.api.exception.CustomNoDataFoundException;
+import com.reliaquest.api.metrics.EmployeeMetrics;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.EmployeeRequest;
+import com.reliaquest.api.response.EmployeeBatchResponse;
+import com.reliaquest.api.response.EmployeeBulkCreateResponse;
+import com.reliaquest.api.response.EmployeeResponse;
+import com.reliaquest.api.utils.HelperUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Service operations against a stubbed upstream: every request the WebClient sends is recorded as
+ * {@code "METHOD /path"} and answered by {@link #upstream}.
+ */
+public class EmployeeServiceImplTest {
+
+    private static final String BASE_URL = "http://upstream/api/v1/employee";
+    private static final String BASE_PATH = "/api/v1/employee";
+
+    private final Employee cached = employee("d8d67f81-dc0c-40ea-99a2-05640c4cef2a", "Pooja");
+    private final Employee remote = employee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Ravi");
+    private final String missingId = "0c6a3f26-0d35-4c1c-a1a4-cf1f3b0d8e2b";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private Function<ClientRequest, Mono<ClientResponse>> upstream =
+            request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+    private final EmployeeRosterCache rosterCache = mock(EmployeeRosterCache.class);
+
+    private EmployeeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request.method() + " " + request.url().getPath());
+                    return upstream.apply(request);
+                })
+                .build();
+        service = new EmployeeServiceImpl(webClient, rosterCache, new EmployeeMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "BASE_URL", BASE_URL);
+        ReflectionTestUtils.setField(service, "deleteById", true);
+        ReflectionTestUtils.setField(service, "batchMaxSize", 1000);
+        ReflectionTestUtils.setField(service, "batchConcurrency", 8);
+        ReflectionTestUtils.setField(service, "bulkCreateMaxSize", 10000);
+        ReflectionTestUtils.setField(service, "bulkCreateConcurrency", 8);
+        when(rosterCache.peek()).thenReturn(Optional.empty());
+        when(rosterCache.peekStale()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void testBatchServesCacheHitsAndFetchesOnlyMisses() {
+        when(rosterCache.peek()).thenReturn(Optional.of(roster(cached)));
+        upstream = request -> {
+            String path = request.url().getPath();
+            if (path.equals(BASE_PATH + "/" + remote.getId())) {
+                return json(HttpStatus.OK, new EmployeeResponse(remote, "Successfully processed request."));
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+        };
+
+        EmployeeBatchResponse response = service.getEmployeesByIds(Arrays.asList(cached.getId(),
+                " " + remote.getId() + " ", cached.getId(), "not-a-uuid", missingId, "  ", null));
+
+        assertEquals(List.of(cached, remote), response.getData());
+        assertEquals(List.of("not-a-uuid", missingId), response.getNotFound());
+        assertEquals(List.of(), response.getFailed());
+        assertEquals(2, requests.size());
+        assertTrue(requests.containsAll(List.of("GET " + BASE_PATH + "/" + remote.getId(),
+                "GET " + BASE_PATH + "/" + missingId)));
+        assertFalse(service.isServingStaleData());
+    }
+
+    @Test
+    void testBatchRejectsMoreUniqueIdsThanTheMaximum() {
+        ReflectionTestUtils.setField(service, "batchMaxSize", 2);
+
+        // Duplicates and blanks do not count towards the limit.
+        assertEquals(1, service.getEmployeesByIds(List.of("not-a-uuid", "not-a-uuid", " ")).getNotFound().size());
+        assertThrows(CustomInvalidRequestException.class,
+                () -> service.getEmployeesByIds(List.of(cached.getId(), remote.getId(), missingId)));
+        assertEquals(List.of(), requests);
+    }
+
+    @Test
+    void testBatchFallsBackToStaleRosterAndMarksTheResponse() {
+        when(rosterCache.peekStale()).thenReturn(Optional.of(roster(cached)));
+
+        EmployeeBatchResponse response = service.getEmployeesByIds(List.of(cached.getId(), remote.getId()));
+
+        assertEquals(List.of(cached), response.getData());
+        assertEquals(List.of(), response.getNotFound());
+        assertEquals(List.of(remote.getId()), response.getFailed());
+        assertEquals(2, requests.size());
+        assertTrue(service.isServingStaleData());
+    }
+
+    @Test
+    void testBatchReportsUpstreamErrorsAsFailed() {
+        EmployeeBatchResponse response = service.getEmployeesByIds(List.of(cached.getId(), remote.getId()));
+
+        assertEquals(List.of(), response.getData());
+        assertEquals(List.of(), response.getNotFound());
+        assertEquals(List.of(cached.getId(), remote.getId()), response.getFailed());
+        assertFalse(service.isServingStaleData());
+    }
+
+    @Test
+    void testBulkCreateKeepsSubmissionOrderAndReportsFailuresPerItem() {
+        upstream = request -> requestedName(request).flatMap(name -> {
+            if (name.equals("bad")) {
+                return Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+            }
+            // Later submissions answer first, so only the service can put the results back in order.
+            int number = Integer.parseInt(name.substring("emp-".length()));
+            return json(HttpStatus.OK, new EmployeeResponse(employee(UUID.randomUUID().toString(), name), "ok"))
+                    .delayElement(Duration.ofMillis(10L * (6 - number)));
+        });
+
+        EmployeeBulkCreateResponse response = service.createEmployees(Arrays.asList(
+                request("emp-0"), request("emp-1"), request("bad"), null, request("emp-4"), request("emp-5")));
+
+        assertEquals(4, response.getCreated());
+        assertEquals(2, response.getFailed());
+        List<EmployeeBulkCreateResponse.Result> results = response.getResults();
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(EmployeeBulkCreateResponse.Result::getIndex).toList());
+        assertEquals("emp-0", results.get(0).getData().getEmployee_name());
+        assertEquals("emp-1", results.get(1).getData().getEmployee_name());
+        assertNull(results.get(2).getData());
+        assertNotNull(results.get(2).getError());
+        assertEquals("Missing employee.", results.get(3).getError());
+        assertEquals("emp-4", results.get(4).getData().getEmployee_name());
+        assertEquals("emp-5", results.get(5).getData().getEmployee_name());
+        // The missing item is answered without an upstream call.
+        assertEquals(5, requests.size());
+        verify(rosterCache, times(1)).invalidate();
+    }
+
+    @Test
+    void testBulkCreateKeepsAtMostTheConfiguredCreatesInFlight() {
+        ReflectionTestUtils.setField(service, "bulkCreateConcurrency", 3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        upstream = request -> requestedName(request)
+                .flatMap(name -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return json(HttpStatus.OK, new EmployeeResponse(employee(UUID.randomUUID().toString(), name), "ok"));
+                })
+                .delayElement(Duration.ofMillis(20))
+                .doOnNext(response -> inFlight.decrementAndGet());
+
+        List<EmployeeRequest> inputs = IntStream.range(0, 12).mapToObj(i -> request("emp-" + i)).toList();
+        EmployeeBulkCreateResponse response = service.createEmployees(inputs);
+
+        assertEquals(12, response.getCreated());
+        assertEquals(3, maxInFlight.get());
+    }
+
+    @Test
+    void testBulkCreateLeavesTheCacheAloneWhenNothingWasCreated() {
+        EmployeeBulkCreateResponse response = service.createEmployees(List.of(request("emp-0"), request("emp-1")));
+
+        assertEquals(0, response.getCreated());
+        assertEquals(2, response.getFailed());
+        verify(rosterCache, never()).invalidate();
+    }
+
+    @Test
+    void testBulkCreateRejectsMoreEmployeesThanTheMaximum() {
+        ReflectionTestUtils.setField(service, "bulkCreateMaxSize", 2);
+
+        assertThrows(CustomInvalidRequestException.class,
+                () -> service.createEmployees(List.of(request("emp-0"), request("emp-1"), request("emp-2"))));
+        assertEquals(List.of(), requests);
+    }
+
+    @Test
+    void testDeleteByIdTakesOneUpstreamCall() {
+        upstream = request -> json(HttpStatus.OK, new EmployeeResponse(remote, "Successfully processed request."));
+
+        assertEquals("Ravi", service.deleteEmployeeById(remote.getId()));
+
+        assertEquals(List.of("DELETE " + BASE_PATH + "/" + remote.getId()), requests);
+        verify(rosterCache).onEmployeeDeleted(remote.getId());
+    }
+
+    @Test
+    void testDeleteByIdOfUnknownIdIsNotFound() {
+        upstream = request -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+
+        assertThrows(CustomNoDataFoundException.class, () -> service.deleteEmployeeById(missingId));
+
+        assertEquals(List.of("DELETE " + BASE_PATH + "/" + missingId), requests);
+        verify(rosterCache, never()).onEmployeeDeleted(missingId);
+    }
+
+    @Test
+    void testNameOnlyDeleteOfCachedIdTakesOneUpstreamCall() {
+        ReflectionTestUtils.setField(service, "deleteById", false);
+        when(rosterCache.peekStale()).thenReturn(Optional.of(roster(cached)));
+        List<String> deletedNames = new CopyOnWriteArrayList<>();
+        upstream = request -> requestedName(request)
+                .doOnNext(deletedNames::add)
+                .thenReturn(ClientResponse.create(HttpStatus.OK).build());
+
+        assertEquals("Pooja", service.deleteEmployeeById(cached.getId()));
+
+        assertEquals(List.of("DELETE " + BASE_PATH), requests);
+        assertEquals(List.of("Pooja"), deletedNames);
+        verify(rosterCache).onEmployeeDeleted(cached.getId());
+    }
+
+    @Test
+    void testNameOnlyDeleteOfUnseenIdLooksUpTheNameFirst() {
+        ReflectionTestUtils.setField(service, "deleteById", false);
+        upstream = request -> request.method() == HttpMethod.GET
+                ? json(HttpStatus.OK, new EmployeeResponse(remote, "Successfully processed request."))
+                : Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+        assertEquals("Ravi", service.deleteEmployeeById(remote.getId()));
+
+        assertEquals(List.of("GET " + BASE_PATH + "/" + remote.getId(), "DELETE " + BASE_PATH), requests);
+    }
+
+    private static Employee employee(String id, String name) {
+        return new Employee(id, name, 4000, 30, "Engineer", name.toLowerCase() + "@company.com");
+    }
+
+    private static EmployeeRequest request(String name) {
+        return new EmployeeRequest(name, 4000, 30, "Engineer");
+    }
+
+    /**
+     * The {@code name} in the JSON body of a request to the upstream: an {@link EmployeeRequest} or a name-only delete.
+     */
+    private static Mono<String> requestedName(ClientRequest request) {
+        MockClientHttpRequest written = new MockClientHttpRequest(request.method(), request.url());
+        return request.body().insert(written, new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return ExchangeStrategies.withDefaults().messageWriters();
+            }
+
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        }).then(Mono.defer(written::getBodyAsString)).map(body -> {
+            try {
+                return HelperUtils.getObjectMapper().readTree(body).get("name").asText();
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static RosterSnapshot roster(Employee... employees) {
+        return RosterSnapshot.of(1, List.of(employees), Instant.now());
+    }
+
+    private static Mono<ClientResponse> json(HttpStatus status, Object body) {
+        try {
+            return Mono.just(ClientResponse.create(status)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(HelperUtils.getObjectMapper().writeValueAsString(body))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
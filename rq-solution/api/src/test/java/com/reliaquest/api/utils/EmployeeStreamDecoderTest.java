@@ -0,0 +1,57 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EmployeeStreamDecoderTest {
+
+    private static final String BODY = "{\"data\":["
+            + "{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800,\"employee_age\":61,"
+            + "\"employee_title\":\"Chair {of} [things]\",\"employee_email\":\"tnixon@company.com\"},"
+            + "{\"id\":\"2\",\"employee_name\":\"Bill Bob\",\"employee_salary\":89750,\"employee_age\":24,"
+            + "\"employee_title\":\"Engineer\",\"employee_email\":\"billbob@company.com\"}"
+            + "],\"status\":\"Successfully processed request.\"}";
+
+    private static Flux<DataBuffer> chunked(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+            buffer.write(bytes, offset, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    @Test
+    void testDecodesEmployeesAcrossChunkBoundaries() {
+        for (int chunkSize : new int[]{1, 7, 64, BODY.length()}) {
+            List<Employee> employees = EmployeeStreamDecoder.decode(chunked(BODY, chunkSize), HelperUtils.getObjectMapper())
+                    .collectList()
+                    .block();
+
+            assertEquals(List.of("Tiger Nixon", "Bill Bob"),
+                    employees.stream().map(Employee::getEmployee_name).collect(Collectors.toList()));
+            assertEquals("Chair {of} [things]", employees.get(0).getEmployee_title());
+        }
+    }
+
+    @Test
+    void testEmptyAndMissingData() {
+        assertEquals(0L, EmployeeStreamDecoder.decode(chunked("{\"data\":[],\"status\":\"ok\"}", 5),
+                HelperUtils.getObjectMapper()).count().block());
+        assertEquals(0L, EmployeeStreamDecoder.decode(chunked("{\"status\":\"ok\",\"data\":null}", 5),
+                HelperUtils.getObjectMapper()).count().block());
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.utils;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RequestCoalescerTest {
+
+    @Test
+    void testConcurrentCallsShareOneUpstreamCall() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+        Supplier<Mono<String>> call = () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+        coalescer.coalesce("url", call).subscribe(first::set);
+        coalescer.coalesce("url", call).subscribe(second::set);
+
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.inFlightCount());
+
+        upstream.tryEmitValue("roster");
+
+        assertEquals("roster", first.get());
+        assertEquals("roster", second.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testCompletedCallsAreNotReused() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Mono<Integer>> call = () -> Mono.just(calls.incrementAndGet());
+
+        assertEquals(1, coalescer.coalesce("url", call).block());
+        assertEquals(2, coalescer.coalesce("url", call).block());
+    }
+
+    @Test
+    void testDifferentKeysAreNotShared() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        Sinks.One<String> upstream = Sinks.one();
+
+        coalescer.coalesce("a", upstream::asMono).subscribe();
+        coalescer.coalesce("b", upstream::asMono).subscribe();
+
+        assertEquals(2, coalescer.inFlightCount());
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.benchmarks;
+
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Highest salary: the original boxed stream maximum against {@link SalaryIndex#highestSalary()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HighestSalaryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    List<Employee> roster;
+    SalaryIndex salaryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = SyntheticRoster.generate(rosterSize);
+        salaryIndex = SalaryIndex.build(roster);
+    }
+
+    @Benchmark
+    public Integer streamMax() {
+        return roster.stream()
+                .map(Employee::getEmployee_salary)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public int salaryIndexMax() {
+        return salaryIndex.highestSalary().orElseThrow();
+    }
+}
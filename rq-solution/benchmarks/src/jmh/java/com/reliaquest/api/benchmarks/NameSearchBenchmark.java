@@ -0,0 +1,60 @@
+package com.reliaquest.api.benchmarks;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Name search: the original linear {@code contains} scan against {@link RosterSnapshot#searchByName}, which narrows
+ * candidates through the trigram index. Queries cover a common fragment, a selective full name and a miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    @Param({"son", "Fiona Wagner", "Zachary"})
+    String query;
+
+    List<Employee> roster;
+    RosterSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = SyntheticRoster.generate(rosterSize);
+        snapshot = RosterSnapshot.of(1, roster, Instant.now());
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return roster.stream()
+                .filter(employee -> employee.getEmployee_name().contains(query))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> snapshotSearch() {
+        return snapshot.searchByName(query, false, false);
+    }
+
+    @Benchmark
+    public List<Employee> snapshotSearchIgnoreCase() {
+        return snapshot.searchByName(query, true, false);
+    }
+}
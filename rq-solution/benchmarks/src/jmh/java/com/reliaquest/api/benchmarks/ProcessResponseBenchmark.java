@@ -0,0 +1,94 @@
+package com.reliaquest.api.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponse;
+import com.reliaquest.api.utils.EmployeeStreamDecoder;
+import com.reliaquest.api.utils.HelperUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of decoding a full upstream roster payload: the original per-call {@code new ObjectMapper()} over a String,
+ * against the two paths the WebClient actually takes, both fed the body as a {@code Flux<DataBuffer>} in
+ * network-sized chunks: {@link Jackson2JsonDecoder} aggregating the whole envelope, and {@link EmployeeStreamDecoder}
+ * emitting employees as they arrive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessResponseBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final ResolvableType LIST_RESPONSE = ResolvableType.forClass(EmployeeListResponse.class);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    String payload;
+
+    byte[][] chunks;
+
+    Jackson2JsonDecoder jsonDecoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        payload = HelperUtils.getObjectMapper().writeValueAsString(
+                new EmployeeListResponse(SyntheticRoster.generate(rosterSize), "Successfully processed request."));
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        chunks = new byte[(bytes.length + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = Arrays.copyOfRange(bytes, i * CHUNK_SIZE, Math.min(bytes.length, (i + 1) * CHUNK_SIZE));
+        }
+        jsonDecoder = new Jackson2JsonDecoder(HelperUtils.getObjectMapper());
+        // The largest rosters exceed the client's configured limit; lift it so every size measures decoding.
+        jsonDecoder.setMaxInMemorySize(-1);
+    }
+
+    @Benchmark
+    public EmployeeListResponse objectMapperPerCall() throws JsonProcessingException {
+        return new ObjectMapper().readValue(payload, EmployeeListResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeListResponse jackson2JsonDecoder() {
+        return (EmployeeListResponse) jsonDecoder
+                .decodeToMono(body(), LIST_RESPONSE, MediaType.APPLICATION_JSON, Map.of())
+                .block();
+    }
+
+    @Benchmark
+    public List<Employee> employeeStreamDecoder() {
+        return EmployeeStreamDecoder.decode(body(), HelperUtils.getObjectMapper())
+                .collectList()
+                .block();
+    }
+
+    /**
+     * The payload as the client sees it off the wire; wrapping shares the chunk arrays, so no bytes are copied here.
+     */
+    private Flux<DataBuffer> body() {
+        return Flux.fromArray(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+}
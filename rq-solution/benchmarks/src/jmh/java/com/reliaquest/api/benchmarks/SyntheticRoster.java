@@ -0,0 +1,46 @@
+package com.reliaquest.api.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic employee rosters for the benchmarks, shaped like the mock server's data: random UUIDs, two-word names
+ * drawn from a small pool (so searches match many employees), salaries between 30k and 500k.
+ */
+final class SyntheticRoster {
+
+    static final String[] FIRST_NAMES = {"Tiger", "Bill", "Jill", "Ashton", "Cedric", "Airi", "Brielle", "Herrod",
+            "Rhona", "Colleen", "Sonya", "Jena", "Quinn", "Charde", "Haley", "Tatyana", "Michael", "Paul", "Gloria",
+            "Bradley", "Dai", "Jenette", "Yuri", "Caesar", "Doris", "Angelica", "Gavin", "Jennifer", "Brenden", "Fiona"};
+
+    static final String[] LAST_NAMES = {"Nixon", "Bob", "Jenkins", "Cox", "Kelly", "Satou", "Williamson", "Chandler",
+            "Davidson", "Hurst", "Frost", "Gaines", "Flynn", "Marshall", "Kennedy", "Fitzpatrick", "Silva", "Byrd",
+            "Little", "Greer", "Rios", "Caldwell", "Berry", "Vance", "Wilder", "Ramos", "Joyce", "Chang", "Wagner",
+            "Green"};
+
+    private static final long SEED = 42L;
+
+    private SyntheticRoster() {
+    }
+
+    static List<Employee> generate(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            roster.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    first + " " + last,
+                    random.nextInt(30_000, 500_000),
+                    random.nextInt(16, 76),
+                    "Engineer",
+                    (first.charAt(0) + last).toLowerCase() + "@company.com"));
+        }
+        return roster;
+    }
+}
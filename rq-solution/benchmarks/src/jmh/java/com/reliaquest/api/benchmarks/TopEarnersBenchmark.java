@@ -0,0 +1,58 @@
+package com.reliaquest.api.benchmarks;
+
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Top-10 earners: the original full sort of the roster against a lookup in a prebuilt {@link SalaryIndex}, plus the
+ * cost of building the index, which is paid once per roster load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopEarnersBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int rosterSize;
+
+    List<Employee> roster;
+    SalaryIndex salaryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = SyntheticRoster.generate(rosterSize);
+        salaryIndex = SalaryIndex.build(roster);
+    }
+
+    @Benchmark
+    public List<Employee> sortRoster() {
+        return roster.stream()
+                .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> salaryIndexTop() {
+        return salaryIndex.top(10);
+    }
+
+    @Benchmark
+    public SalaryIndex buildSalaryIndex() {
+        return SalaryIndex.build(roster);
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Collects per-operation latencies and outcomes during the measured window and prints the summary table.
+ */
+final class LatencyRecorder {
+
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            samples.put(operation, new Samples());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, int status) {
+        if (status != LoadTarget.SKIPPED) {
+            samples.get(operation).add(latencyNanos, status);
+        }
+    }
+
+    void recordDropped(Operation operation) {
+        samples.get(operation).dropped();
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf(
+                "%-10s %9s %10s %9s %9s %9s %8s %8s %8s%n",
+                "operation", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors", "429s", "dropped");
+        Samples total = new Samples();
+        for (Map.Entry<Operation, Samples> entry : samples.entrySet()) {
+            Samples operationSamples = entry.getValue();
+            if (operationSamples.count() > 0 || operationSamples.dropped > 0) {
+                printRow(out, entry.getKey().key(), operationSamples, seconds);
+                total.addAll(operationSamples);
+            }
+        }
+        printRow(out, "total", total, seconds);
+    }
+
+    private static void printRow(PrintStream out, String name, Samples samples, double seconds) {
+        long[] sorted = samples.sortedLatencies();
+        out.printf(
+                "%-10s %9d %10.1f %9.2f %9.2f %9.2f %7.2f%% %7.2f%% %8d%n",
+                name,
+                sorted.length,
+                sorted.length / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                percentileMillis(sorted, 0.999),
+                rate(samples.errors, sorted.length),
+                rate(samples.throttled, sorted.length),
+                samples.dropped);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : 100.0 * count / total;
+    }
+
+    /**
+     * Raw latencies in a growable array; recording is synchronized per operation, which is cheap next to an HTTP call.
+     */
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        private long throttled;
+        private long dropped;
+
+        synchronized void add(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (status == 429) {
+                throttled++;
+            } else if (status / 100 != 2) {
+                errors++;
+            }
+        }
+
+        synchronized void dropped() {
+            dropped++;
+        }
+
+        synchronized int count() {
+            return size;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized void addAll(Samples other) {
+            long[] otherLatencies = other.sortedLatencies();
+            if (size + otherLatencies.length > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + otherLatencies.length));
+            }
+            System.arraycopy(otherLatencies, 0, latencies, size, otherLatencies.length);
+            size += otherLatencies.length;
+            errors += other.errors;
+            throttled += other.throttled;
+            dropped += other.dropped;
+        }
+    }
+}
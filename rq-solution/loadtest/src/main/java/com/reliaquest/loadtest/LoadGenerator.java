@@ -0,0 +1,121 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives a {@link LoadTarget} for the warm-up plus the measured duration. Only requests scheduled after the warm-up
+ * are recorded.
+ */
+@Slf4j
+final class LoadGenerator {
+
+    private final LoadTestSettings settings;
+    private final LoadTarget target;
+    private final LatencyRecorder recorder;
+
+    LoadGenerator(LoadTestSettings settings, LoadTarget target, LatencyRecorder recorder) {
+        this.settings = settings;
+        this.target = target;
+        this.recorder = recorder;
+    }
+
+    void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        if (settings.openLoop()) {
+            runOpenLoop(start, measureFrom, end);
+        } else {
+            runClosedLoop(measureFrom, end);
+        }
+    }
+
+    /**
+     * Issues requests on a fixed schedule regardless of how fast responses come back. Latency is taken from the
+     * scheduled send time; requests that would exceed {@code concurrency} in flight are dropped and counted.
+     */
+    private void runOpenLoop(long start, long measureFrom, long end) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        Semaphore inFlight = new Semaphore(settings.concurrency());
+        double intervalNanos = 1e9 / settings.rps();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for (long i = 0; ; i++) {
+            long scheduled = start + (long) (i * intervalNanos);
+            if (scheduled - end >= 0) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = settings.mix().next(random);
+            boolean measured = scheduled - measureFrom >= 0;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    recorder.recordDropped(operation);
+                }
+                continue;
+            }
+            CompletableFuture<Integer> call = operation.send(target, random);
+            pending.add(call.whenComplete((status, error) -> {
+                inFlight.release();
+                if (measured) {
+                    recorder.record(
+                            operation, System.nanoTime() - scheduled, error == null ? status : LoadTarget.NO_RESPONSE);
+                }
+            }));
+            pending.removeIf(CompletableFuture::isDone);
+        }
+        awaitQuietly(CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)));
+    }
+
+    /**
+     * {@code concurrency} workers, each sending its next request as soon as the previous one completes.
+     */
+    private void runClosedLoop(long measureFrom, long end) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        for (int worker = 0; worker < settings.concurrency(); worker++) {
+            SplittableRandom random = new SplittableRandom(settings.seed() + worker);
+            workers.execute(() -> {
+                while (System.nanoTime() - end < 0) {
+                    Operation operation = settings.mix().next(random);
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = operation.send(target, random).join();
+                    } catch (RuntimeException e) {
+                        status = LoadTarget.NO_RESPONSE;
+                    }
+                    if (sent - measureFrom >= 0) {
+                        recorder.record(operation, System.nanoTime() - sent, status);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        Duration grace = settings.requestTimeout().plusSeconds(5);
+        long totalWait = settings.warmup().plus(settings.duration()).plus(grace).toMillis();
+        if (!workers.awaitTermination(totalWait, TimeUnit.MILLISECONDS)) {
+            log.warn("Workers did not finish within {} after the run; abandoning them.", grace);
+            workers.shutdownNow();
+        }
+    }
+
+    private void awaitQuietly(CompletableFuture<Void> all) {
+        try {
+            all.get(settings.requestTimeout().plusSeconds(5).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Some requests were still in flight after the run: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The API under test plus the ids and names the generated requests refer to. Futures complete with the HTTP status,
+ * or {@link #NO_RESPONSE} when the request failed without one (timeouts, connection errors).
+ */
+@Slf4j
+final class LoadTarget {
+
+    static final int NO_RESPONSE = -1;
+
+    /**
+     * Marks a delete that found no employee created earlier in the run and so sent nothing.
+     */
+    static final int SKIPPED = 0;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String deletePath;
+    private final Duration requestTimeout;
+    private final List<String> ids;
+    private final List<String> names;
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * @param deletePath - delete route below {@code baseUrl}, without the id; it differs between the servlet and the
+     *     reactive controller
+     */
+    LoadTarget(
+            HttpClient client,
+            String baseUrl,
+            String deletePath,
+            Duration requestTimeout,
+            List<String> ids,
+            List<String> names) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.deletePath = deletePath;
+        this.requestTimeout = requestTimeout;
+        this.ids = ids;
+        this.names = names;
+    }
+
+    String randomId(SplittableRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * A three-character slice of a roster name, so that searches have a realistic number of matches.
+     */
+    String randomNameFragment(SplittableRandom random) {
+        String name = names.get(random.nextInt(names.size()));
+        if (name.length() <= 3) {
+            return name;
+        }
+        int start = random.nextInt(name.length() - 2);
+        return name.substring(start, start + 3);
+    }
+
+    CompletableFuture<Integer> get(String path) {
+        return send(request(path).GET().build()).thenApply(HttpResponse::statusCode);
+    }
+
+    CompletableFuture<Integer> create(SplittableRandom random) {
+        String body;
+        try {
+            body = mapper.writeValueAsString(Map.of(
+                    "name",
+                    "Load Test " + Long.toHexString(random.nextLong()),
+                    "salary",
+                    random.nextInt(30_000, 500_000),
+                    "age",
+                    random.nextInt(16, 71),
+                    "title",
+                    "Load Tester"));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return send(request("/create")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build())
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 == 2) {
+                        rememberCreated(response.body());
+                    }
+                    return response.statusCode();
+                });
+    }
+
+    CompletableFuture<Integer> deleteCreated() {
+        String id = createdIds.poll();
+        if (id == null) {
+            return CompletableFuture.completedFuture(SKIPPED);
+        }
+        return send(request(deletePath + id).DELETE().build()).thenApply(HttpResponse::statusCode);
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            JsonNode id = mapper.readTree(body).get("id");
+            if (id != null) {
+                createdIds.add(id.asText());
+            }
+        } catch (Exception e) {
+            log.debug("Could not read the id of a created employee: {}", e.getMessage());
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout);
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeStore;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots {@link ServerApplication} and {@link ApiApplication} in this JVM on random ports, replays the configured mix
+ * of {@code /v1/employee/*} calls against the API and prints throughput, latency percentiles and error/429 rates.
+ * <p>
+ * {@code ./gradlew loadtest:bootRun --args='--roster-size=10000 --rps=200 --duration=2m'}
+ * <p>
+ * See {@link LoadTestSettings} for the options. Each application reads its own {@code loadtest-*.yml} rather than
+ * {@code application.yml}, since both modules put one at the root of the shared classpath.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+
+        List<String> serverArgs = new ArrayList<>(
+                List.of("--spring.config.name=loadtest-server", "--mock.employees.max=" + settings.rosterSize()));
+        serverArgs.addAll(settings.serverArgs());
+        ConfigurableApplicationContext server =
+                new SpringApplicationBuilder(ServerApplication.class).run(serverArgs.toArray(String[]::new));
+
+        List<String> apiArgs = new ArrayList<>(List.of(
+                "--spring.config.name=loadtest-api",
+                "--employee.server.base-url=http://localhost:" + port(server) + "/api/v1/employee"));
+        apiArgs.addAll(settings.apiArgs());
+        ConfigurableApplicationContext api =
+                new SpringApplicationBuilder(ApiApplication.class).run(apiArgs.toArray(String[]::new));
+
+        try {
+            run(settings, server, api);
+        } finally {
+            api.close();
+            server.close();
+        }
+    }
+
+    private static void run(
+            LoadTestSettings settings, ConfigurableApplicationContext server, ConfigurableApplicationContext api)
+            throws InterruptedException {
+        // Read the seeded roster straight from the server so the harness spends none of its rate limit on setup.
+        Collection<MockEmployee> roster = server.getBean(EmployeeStore.class).values();
+        List<String> ids = new ArrayList<>(roster.size());
+        List<String> names = new ArrayList<>(roster.size());
+        for (MockEmployee employee : roster) {
+            ids.add(employee.getId().toString());
+            names.add(employee.getName());
+        }
+
+        HttpClient client =
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        LoadTarget target = new LoadTarget(
+                client,
+                "http://localhost:" + port(api) + "/v1/employee",
+                deletePath(api),
+                settings.requestTimeout(),
+                ids,
+                names);
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        System.out.printf(
+                "Load test: %d employees, %s for %s after %s warm-up, concurrency %d, mix %s%n",
+                settings.rosterSize(),
+                settings.openLoop() ? settings.rps() + " req/s open loop" : "closed loop",
+                settings.duration(),
+                settings.warmup(),
+                settings.concurrency(),
+                settings.mix());
+        new LoadGenerator(settings, target, recorder).run();
+        recorder.print(System.out, settings.duration());
+    }
+
+    private static String deletePath(ConfigurableApplicationContext api) {
+        // The servlet controller keeps the original double-prefixed delete route.
+        boolean reactive = api.getEnvironment().getProperty("employee.api.reactive", Boolean.class, false);
+        return reactive ? "/delete/" : "/v1/employee/delete/";
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Load-test knobs, read from {@code --key=value} arguments.
+ * <p>
+ * With {@code rps > 0} requests are issued open-loop at that rate (at most {@code concurrency} in flight) and latency
+ * is measured from each request's scheduled start, so a stalled API cannot hide its queueing delay. With
+ * {@code rps = 0} {@code concurrency} workers send back-to-back requests (closed loop). Arguments prefixed with
+ * {@code server.} or {@code api.} are passed through to the respective application, e.g.
+ * {@code --api.employee.client.rate-limit.max-rate=500}.
+ */
+record LoadTestSettings(
+        int rosterSize,
+        Duration duration,
+        Duration warmup,
+        double rps,
+        int concurrency,
+        OperationMix mix,
+        long seed,
+        Duration requestTimeout,
+        List<String> serverArgs,
+        List<String> apiArgs) {
+
+    static final String DEFAULT_MIX = "all=10,id=35,search=20,highest=10,top10=10,create=10,delete=5";
+
+    static LoadTestSettings parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> serverArgs = new ArrayList<>();
+        List<String> apiArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.startsWith("server.")) {
+                serverArgs.add("--" + key.substring("server.".length()) + "=" + value);
+            } else if (key.startsWith("api.")) {
+                apiArgs.add("--" + key.substring("api.".length()) + "=" + value);
+            } else {
+                options.put(key, value);
+            }
+        }
+        LoadTestSettings settings = new LoadTestSettings(
+                Integer.parseInt(options.getOrDefault("roster-size", "1000")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                Double.parseDouble(options.getOrDefault("rps", "0")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                OperationMix.parse(options.getOrDefault("mix", DEFAULT_MIX)),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                DurationStyle.detectAndParse(options.getOrDefault("request-timeout", "30s")),
+                List.copyOf(serverArgs),
+                List.copyOf(apiArgs));
+        if (settings.concurrency() < 1 || settings.rps() < 0 || settings.rosterSize() < 1) {
+            throw new IllegalArgumentException("roster-size and concurrency must be positive and rps non-negative");
+        }
+        return settings;
+    }
+
+    boolean openLoop() {
+        return rps > 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@code /v1/employee/*} calls the harness can replay, keyed by the names used in the operation mix.
+ */
+enum Operation {
+    ALL("all") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            return target.get("/all");
+        }
+    },
+    BY_ID("id") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            return target.get("/" + target.randomId(random));
+        }
+    },
+    SEARCH("search") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            String fragment = URLEncoder.encode(target.randomNameFragment(random), StandardCharsets.UTF_8)
+                    .replace("+", "%20");
+            return target.get("/name/" + fragment);
+        }
+    },
+    HIGHEST_SALARY("highest") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            return target.get("/highest/salary");
+        }
+    },
+    TOP10("top10") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            return target.get("/highest/top10");
+        }
+    },
+    CREATE("create") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            return target.create(random);
+        }
+    },
+    /**
+     * Deletes an employee created earlier in the run, so the seeded roster that the reads target stays intact.
+     */
+    DELETE("delete") {
+        @Override
+        CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random) {
+            return target.deleteCreated();
+        }
+    };
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract CompletableFuture<Integer> send(LoadTarget target, SplittableRandom random);
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
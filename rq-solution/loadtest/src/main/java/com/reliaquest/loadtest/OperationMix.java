@@ -0,0 +1,65 @@
+package com.reliaquest.loadtest;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted choice over {@link Operation}s, parsed from e.g. {@code id=40,search=20,top10=10}.
+ */
+final class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private OperationMix(Operation[] operations, int[] cumulativeWeights) {
+        this.operations = operations;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static OperationMix parse(String spec) {
+        String[] entries = spec.split(",");
+        Operation[] operations = new Operation[entries.length];
+        int[] cumulativeWeights = new int[entries.length];
+        int total = 0;
+        for (int i = 0; i < entries.length; i++) {
+            String[] entry = entries[i].trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight but got: " + entries[i]);
+            }
+            operations[i] = Operation.fromKey(entry[0].trim().toLowerCase(Locale.ROOT));
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + entry[0]);
+            }
+            total += weight;
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The operation mix needs at least one positive weight");
+        }
+        return new OperationMix(operations, cumulativeWeights);
+    }
+
+    Operation next(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (pick >= cumulativeWeights[index]) {
+            index++;
+        }
+        return operations[index];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(operations[i].key()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return builder.toString();
+    }
+}
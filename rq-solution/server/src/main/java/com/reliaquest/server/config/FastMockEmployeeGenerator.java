@@ -0,0 +1,119 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates large rosters quickly and reproducibly. Names and titles are drawn from small pools filled once by a
+ * seeded {@link Faker}; each employee is then built directly, in parallel, from a {@link SplittableRandom} seeded
+ * by the roster seed and the employee's index, so the same seed and size always give the same roster regardless of
+ * how the work is split across threads.
+ */
+public class FastMockEmployeeGenerator {
+
+    private static final int NAME_POOL_SIZE = 512;
+
+    private static final int TITLE_POOL_SIZE = 256;
+
+    static final int CHUNK_SIZE = 65536;
+
+    /*
+     * Odd 64-bit constant spreading consecutive indexes across the seed space.
+     */
+    private static final long INDEX_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+
+    private final long seed;
+
+    private final String[] firstNames;
+
+    private final String[] lastNames;
+
+    private final String[] titles;
+
+    /*
+     * firstNames and lastNames reduced to what may appear in an email address, at the same positions.
+     */
+    private final String[] firstNameEmailParts;
+
+    private final String[] lastNameEmailParts;
+
+    public FastMockEmployeeGenerator(long seed) {
+        this.seed = seed;
+        // A fixed locale, so that the pools do not depend on the machine the roster is generated on.
+        final var faker = new Faker(Locale.US, new Random(seed));
+        this.firstNames = pool(NAME_POOL_SIZE, () -> faker.name().firstName());
+        this.lastNames = pool(NAME_POOL_SIZE, () -> faker.name().lastName());
+        this.titles = pool(TITLE_POOL_SIZE, () -> faker.job().title());
+        this.firstNameEmailParts = emailParts(firstNames);
+        this.lastNameEmailParts = emailParts(lastNames);
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var employees = new ArrayList<MockEmployee>(count);
+        generate(count, employees::addAll);
+        return employees;
+    }
+
+    /**
+     * Generates {@code count} employees and hands them to {@code consumer} in order, a chunk at a time, so that only
+     * one chunk exists as objects at once. Each chunk is generated in parallel.
+     */
+    public void generate(int count, Consumer<List<MockEmployee>> consumer) {
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            consumer.accept(IntStream.range(from, Math.min(count, from + CHUNK_SIZE))
+                    .parallel()
+                    .mapToObj(this::employee)
+                    .toList());
+        }
+    }
+
+    MockEmployee employee(int index) {
+        final var random = new SplittableRandom(seed ^ (index * INDEX_MULTIPLIER));
+        final var first = random.nextInt(firstNames.length);
+        final var last = random.nextInt(lastNames.length);
+        // The index keeps generated emails unique, as the faker-based generator's user names mostly are.
+        final var userName = firstNameEmailParts[first] + "." + lastNameEmailParts[last] + index;
+        return MockEmployee.builder()
+                .id(uuid(random))
+                .name(firstNames[first] + " " + lastNames[last])
+                .salary(random.nextInt(30000, 500000))
+                .age(random.nextInt(16, 70))
+                .title(titles[random.nextInt(titles.length)])
+                .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(userName))
+                .build();
+    }
+
+    /*
+     * A version 4 (random) UUID built from the seeded generator instead of SecureRandom.
+     */
+    private static UUID uuid(SplittableRandom random) {
+        final var mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static String[] emailParts(String[] names) {
+        final var parts = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            parts[i] = names[i].toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        }
+        return parts;
+    }
+
+    private static String[] pool(int size, Supplier<String> value) {
+        final var values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = value.get();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*
+ * Selects how the mock API throttles its clients through mock.rate-limit.profile:
+ * token-bucket (default) - deterministic per-key buckets with Retry-After and RateLimit-* headers,
+ * random - the original limiter, a random 5-10 requests followed by a random 30-90s lockout for everyone,
+ * none - no throttling.
+ */
+@Slf4j
+@Configuration
+public class RequestLimitConfiguration implements WebMvcConfigurer {
+
+    private final HandlerInterceptor requestLimitInterceptor;
+
+    public RequestLimitConfiguration(
+            @Value("${mock.rate-limit.profile:token-bucket}") String profile,
+            @Value("${mock.rate-limit.key:client}") String key,
+            @Value("${mock.rate-limit.rate:2}") double rate,
+            @Value("${mock.rate-limit.burst:10}") int burst,
+            @Value("${mock.rate-limit.max-buckets:10000}") int maxBuckets) {
+        final HandlerInterceptor interceptor =
+                switch (profile) {
+                    case "token-bucket" -> new TokenBucketRequestLimitInterceptor(
+                            TokenBucketRequestLimitInterceptor.Key.from(key), rate, burst, maxBuckets);
+                    case "random" -> new RandomRequestLimitInterceptor();
+                    case "none" -> null;
+                    default -> throw new IllegalArgumentException(
+                            "mock.rate-limit.profile must be token-bucket, random or none, was " + profile);
+                };
+        this.requestLimitInterceptor = interceptor;
+        log.info("Request limit profile: {}", profile);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (requestLimitInterceptor != null) {
+            registry.addInterceptor(requestLimitInterceptor);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.service.ColumnarEmployeeStore;
+import com.reliaquest.server.service.EmployeeStore;
+import com.reliaquest.server.service.IndexedEmployeeStore;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +20,10 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
@@ -31,10 +33,46 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The roster, seeded with mock.employees.max employees. The default faker generator fills every record through
+     * datafaker; the fast generator (see FastMockEmployeeGenerator) is meant for large rosters, is reproducible through
+     * mock.employees.seed, and feeds the store in chunks so that a columnar store never holds the whole roster as
+     * objects. mock.employees.storage picks the store: objects (IndexedEmployeeStore) or columnar
+     * (ColumnarEmployeeStore).
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public EmployeeStore employeeStore(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.generator:faker}") String generator,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.storage:objects}") String storage) {
+        final EmployeeStore store =
+                switch (storage) {
+                    case "objects" -> new IndexedEmployeeStore();
+                    case "columnar" -> new ColumnarEmployeeStore();
+                    default -> throw new IllegalArgumentException(
+                            "mock.employees.storage must be objects or columnar, was " + storage);
+                };
+        final var started = System.nanoTime();
+        switch (generator) {
+            case "fast" -> {
+                final var rosterSeed = seed != null ? seed : new SplittableRandom().nextLong();
+                new FastMockEmployeeGenerator(rosterSeed).generate(maxEmployees, chunk -> chunk.forEach(store::add));
+                log.info("Generated roster with seed {}", rosterSeed);
+            }
+            case "faker" -> fakerEmployees(faker, maxEmployees).forEach(store::add);
+            default -> throw new IllegalArgumentException(
+                    "mock.employees.generator must be faker or fast, was " + generator);
+        }
+        log.info(
+                "Seeded {} store with {} employees in {} ms",
+                storage,
+                store.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return store;
+    }
+
+    private static List<MockEmployee> fakerEmployees(Faker faker, int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -51,9 +89,4 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
                 .collect(Collectors.toCollection(ArrayList::new));
     }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
-    }
 }
@@ -2,6 +2,8 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,21 +27,46 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
     private final MockEmployeeService mockEmployeeService;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(@Valid EmployeeQuery query) {
+        final var snapshot = mockEmployeeService.snapshot();
+        final var response = ResponseEntity.ok()
+                .eTag(rosterETag(snapshot.version()))
+                .header(ROSTER_VERSION_HEADER, String.valueOf(snapshot.version()));
+        if (query.isUnpaged()) {
+            return response.body(Response.handledWith(snapshot.employees()));
+        }
+        final var page = mockEmployeeService.query(snapshot, query);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(Response.handledWith(page.employees()));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+        final var eTag = rosterETag(mockEmployeeService.getVersion());
         return mockEmployeeService
                 .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .map(employee -> ResponseEntity.ok().eTag(eTag).body(Response.handledWith(employee)))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Changes since a version taken from X-Roster-Version or a previous call, for clients that keep a copy of the
+     * roster and would rather apply deltas than download it again.
+     */
+    @GetMapping("/changes")
+    public Response<EmployeeChanges> getChanges(@RequestParam("since") long since) {
+        return Response.handledWith(mockEmployeeService.changesSince(since));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -48,4 +76,22 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /*
+     * Lookups by id read the version before the employee, so a response never carries a newer version than its
+     * content; list responses are tagged with the version of the snapshot they serialize. Spring answers a matching
+     * If-None-Match with 304 before writing the body. The tag is weak because Tomcat will not gzip a response that
+     * carries a strong ETag; If-None-Match uses weak comparison, so revalidation works the same.
+     */
+    private static String rosterETag(long version) {
+        return "W/\"" + version + "\"";
+    }
 }
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * One entry of the roster change log: {@code employee} was created or deleted, moving the roster to {@code version}.
+ */
+public record EmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The changes after a client's version, oldest first, up to the current roster {@code version}. When the log no
+ * longer reaches back to the client's version, {@code resync} is set, {@code changes} is empty and the client has to
+ * fetch the whole roster again.
+ */
+public record EmployeeChanges(long version, boolean resync, List<EmployeeChange> changes) {
+
+    public static EmployeeChanges resync(long version) {
+        return new EmployeeChanges(version, true, List.of());
+    }
+}
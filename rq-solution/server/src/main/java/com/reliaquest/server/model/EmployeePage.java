@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * One page of a roster query; {@code nextCursor} is null on the last page.
+ */
+public record EmployeePage(List<MockEmployee> employees, String nextCursor) {}
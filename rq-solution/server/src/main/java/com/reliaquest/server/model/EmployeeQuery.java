@@ -0,0 +1,73 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.Min;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.Data;
+
+/**
+ * Optional query parameters of {@code GET /api/v1/employee}: keyset pagination ({@code limit}, {@code after}), sort
+ * ({@code sort} by id, name, salary or age and {@code order} asc or desc) and filters. Without any of them the whole
+ * roster is returned in insertion order, as before.
+ */
+@Data
+public class EmployeeQuery {
+
+    @Min(1)
+    private Integer limit;
+
+    private String after;
+
+    private String sort;
+
+    private String order;
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private String name;
+
+    private String title;
+
+    public boolean isUnpaged() {
+        return Stream.of(limit, after, sort, order, minSalary, maxSalary, minAge, maxAge, name, title)
+                .allMatch(Objects::isNull);
+    }
+
+    public boolean isDescending() {
+        if (order == null || order.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (order.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported order '" + order + "', expected asc or desc");
+    }
+
+    public boolean matches(MockEmployee employee) {
+        return within(employee.getSalary(), minSalary, maxSalary)
+                && within(employee.getAge(), minAge, maxAge)
+                && contains(employee.getName(), name)
+                && contains(employee.getTitle(), title);
+    }
+
+    private static boolean within(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static boolean contains(String value, String fragment) {
+        if (fragment == null) {
+            return true;
+        }
+        return value != null && value.toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT));
+    }
+}
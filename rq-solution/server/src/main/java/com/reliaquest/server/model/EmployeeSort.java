@@ -0,0 +1,65 @@
+package com.reliaquest.server.model;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Sort keys for paged roster queries. Each key can turn an employee into a cursor value and back into a probe
+ * employee, so a page can resume strictly after the last employee of the previous one.
+ */
+public enum EmployeeSort {
+    ID((left, right) -> 0, employee -> null, (builder, value) -> builder),
+    NAME(
+            Comparator.comparing(MockEmployee::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)),
+            MockEmployee::getName,
+            MockEmployee.MockEmployeeBuilder::name),
+    SALARY(
+            Comparator.comparing(MockEmployee::getSalary, Comparator.nullsFirst(Comparator.naturalOrder())),
+            employee -> Objects.toString(employee.getSalary(), null),
+            (builder, value) -> builder.salary(Integer.valueOf(value))),
+    AGE(
+            Comparator.comparing(MockEmployee::getAge, Comparator.nullsFirst(Comparator.naturalOrder())),
+            employee -> Objects.toString(employee.getAge(), null),
+            (builder, value) -> builder.age(Integer.valueOf(value)));
+
+    private final Comparator<MockEmployee> comparator;
+    private final Function<MockEmployee, String> cursorValue;
+    private final BiFunction<MockEmployee.MockEmployeeBuilder, String, MockEmployee.MockEmployeeBuilder> probe;
+
+    EmployeeSort(
+            Comparator<MockEmployee> comparator,
+            Function<MockEmployee, String> cursorValue,
+            BiFunction<MockEmployee.MockEmployeeBuilder, String, MockEmployee.MockEmployeeBuilder> probe) {
+        this.comparator = comparator;
+        this.cursorValue = cursorValue;
+        this.probe = probe;
+    }
+
+    public static EmployeeSort from(String sort) {
+        try {
+            return sort == null ? ID : valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Unsupported sort '" + sort + "', expected one of id, name, salary, age");
+        }
+    }
+
+    /**
+     * Total order for this key: ties are broken by id, so every employee has a unique position to resume from.
+     */
+    public Comparator<MockEmployee> comparator(boolean descending) {
+        Comparator<MockEmployee> byKey = descending ? comparator.reversed() : comparator;
+        return byKey.thenComparing(MockEmployee::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    public String cursorValue(MockEmployee employee) {
+        return cursorValue.apply(employee);
+    }
+
+    public MockEmployee probe(MockEmployee.MockEmployeeBuilder builder, String value) {
+        return value == null ? builder.build() : probe.apply(builder, value).build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The roster exactly as it was at {@code version}, in insertion order. The list is immutable, so a snapshot can be
+ * serialized or paged through while writes carry on.
+ */
+public record RosterSnapshot(long version, List<MockEmployee> employees) {}
@@ -0,0 +1,532 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+
+/**
+ * The roster as a struct of arrays: one row per employee, with the id as two {@code long} columns, salary and age as
+ * {@code int} columns, and titles and email domains dictionary-encoded, so an employee costs a few dozen bytes plus its
+ * name and email user strings instead of a graph of objects. {@link MockEmployee}s are only materialized when a row is
+ * read, e.g. while a response is being serialized.
+ * <p>
+ * Rows are append-only: a delete only marks its row, which is never reused or overwritten. That lets snapshots be
+ * plain arrays of row numbers over the shared columns, and lets readers go without locks. Writers hold this store's
+ * lock, fill in a row, then publish it through a volatile write of {@link #columns}; readers start from a volatile read
+ * of it and never look at rows past the size it carries.
+ * <p>
+ * Once at least half of the rows, and no fewer than {@value #MIN_COMPACTION_ROWS}, are deleted, the live rows are
+ * copied into new arrays, so the columns stay within about twice the live roster. That compaction, and re-adding an
+ * id whose row is deleted, change which row an id maps to and so start a new generation; snapshots of an earlier
+ * generation can no longer be extended with changes. Titles and email domains are never dropped from their
+ * dictionaries, which are bounded by the number of distinct values.
+ */
+public class ColumnarEmployeeStore implements EmployeeStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int MIN_COMPACTION_ROWS = 1024;
+
+    private static final int ABSENT = Integer.MIN_VALUE;
+
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+
+    private final Dictionary titles = new Dictionary();
+
+    private final Dictionary emailDomains = new Dictionary();
+
+    private final AtomicInteger live = new AtomicInteger();
+
+    @Override
+    public int size() {
+        return live.get();
+    }
+
+    @Override
+    public Collection<MockEmployee> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<MockEmployee> iterator() {
+                final var view = columns;
+                return new Iterator<>() {
+                    private int row = nextLive(view, 0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return row < view.size;
+                    }
+
+                    @Override
+                    public MockEmployee next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final var employee = materialize(view, row);
+                        row = nextLive(view, row + 1);
+                        return employee;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return live.get();
+            }
+        };
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var view = columns;
+        final var row = rowOf(view, id);
+        if (row == ABSENT || view.deleted[row]) {
+            return Optional.empty();
+        }
+        return Optional.of(materialize(view, row));
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var view = columns;
+        final var rows = view.rowsByName.get(IndexedEmployeeStore.normalize(name));
+        if (rows != null) {
+            for (final var row : rows) {
+                if (row < view.size && !view.deleted[row]) {
+                    return Optional.of(materialize(view, row));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized boolean add(@NonNull MockEmployee mockEmployee) {
+        final var id = mockEmployee.getId();
+        if (Objects.isNull(id)) {
+            return false;
+        }
+        final var current = columns;
+        final var previousRow = rowOf(current, id);
+        if (previousRow != ABSENT && !current.deleted[previousRow]) {
+            return false;
+        }
+        final var view = current.size == current.capacity() ? current.grow() : current;
+        final var row = view.size;
+        fill(view, row, mockEmployee);
+        addName(view.rowsByName, mockEmployee.getName(), row);
+        live.incrementAndGet();
+        if (previousRow == ABSENT) {
+            columns = view.published(row + 1, view.generation, insertId(view, id, row));
+        } else {
+            columns = view.published(row + 1, view.generation + 1, moveId(view, previousRow, row));
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeById(@NonNull UUID id) {
+        final var view = columns;
+        final var row = rowOf(view, id);
+        if (row == ABSENT || view.deleted[row]) {
+            return Optional.empty();
+        }
+        view.deleted[row] = true;
+        final var name = view.names[row];
+        if (Objects.nonNull(name)) {
+            view.rowsByName.computeIfPresent(IndexedEmployeeStore.normalize(name), (ignored, rows) -> {
+                final var remaining =
+                        Arrays.stream(rows).filter(other -> other != row).toArray();
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+        final var removed = materialize(view, row);
+        final var dead = view.size - live.decrementAndGet();
+        // Also publishes the deleted flag to readers, who all start from a read of columns.
+        columns = dead >= MIN_COMPACTION_ROWS && dead * 2 >= view.size ? compact(view) : view;
+        return Optional.of(removed);
+    }
+
+    @Override
+    public synchronized List<MockEmployee> snapshot() {
+        final var view = columns;
+        final var rows = new int[live.get()];
+        var count = 0;
+        for (int row = nextLive(view, 0); row < view.size; row = nextLive(view, row + 1)) {
+            rows[count++] = row;
+        }
+        return new Rows(view, Arrays.copyOf(rows, count));
+    }
+
+    /**
+     * Within a generation an id always maps to the same row, and rows of deleted employees keep their id, so both
+     * creates and deletes in {@code changes} map back to rows without looking at which rows are deleted now. Across
+     * generations they do not, and the caller has to take a full snapshot instead.
+     */
+    @Override
+    public Optional<List<MockEmployee>> snapshot(List<MockEmployee> previous, List<EmployeeChange> changes) {
+        if (!(previous instanceof Rows rows)) {
+            return EmployeeStore.super.snapshot(previous, changes);
+        }
+        final var view = columns;
+        if (rows.view.generation != view.generation) {
+            return Optional.empty();
+        }
+        final var created = new LinkedHashSet<Integer>();
+        final var deleted = new HashSet<Integer>();
+        for (final var change : changes) {
+            final var row = rowOf(view, change.employee().getId());
+            if (row == ABSENT) {
+                return Optional.empty();
+            }
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                created.add(row);
+            } else if (!created.remove(row)) {
+                deleted.add(row);
+            }
+        }
+        final var next = new int[rows.rows.length + created.size()];
+        var count = 0;
+        for (final var row : rows.rows) {
+            if (!deleted.contains(row)) {
+                next[count++] = row;
+            }
+        }
+        for (final var row : created) {
+            next[count++] = row;
+        }
+        return Optional.of(new Rows(view, Arrays.copyOf(next, count)));
+    }
+
+    private void fill(Columns view, int row, MockEmployee mockEmployee) {
+        view.mostSignificantBits[row] = mockEmployee.getId().getMostSignificantBits();
+        view.leastSignificantBits[row] = mockEmployee.getId().getLeastSignificantBits();
+        view.names[row] = mockEmployee.getName();
+        view.salaries[row] = encode(mockEmployee.getSalary());
+        view.ages[row] = encode(mockEmployee.getAge());
+        view.titles[row] = titles.encode(mockEmployee.getTitle());
+        final var email = mockEmployee.getEmail();
+        final var at = email == null ? -1 : email.lastIndexOf('@');
+        view.emailUsers[row] = at < 0 ? email : email.substring(0, at);
+        view.emailDomains[row] = at < 0 ? -1 : emailDomains.encode(email.substring(at + 1));
+    }
+
+    /*
+     * Copies the live rows, in order, into new arrays with a new id table and name index. Readers and snapshots still
+     * holding the old columns keep using them untouched. Capacities stay powers of two, as the id table needs.
+     */
+    private Columns compact(Columns view) {
+        final var compacted =
+                new Columns(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(live.get()) * 4), view.generation + 1);
+        var size = 0;
+        for (int row = nextLive(view, 0); row < view.size; row = nextLive(view, row + 1)) {
+            compacted.mostSignificantBits[size] = view.mostSignificantBits[row];
+            compacted.leastSignificantBits[size] = view.leastSignificantBits[row];
+            compacted.names[size] = view.names[row];
+            compacted.salaries[size] = view.salaries[row];
+            compacted.ages[size] = view.ages[row];
+            compacted.titles[size] = view.titles[row];
+            compacted.emailUsers[size] = view.emailUsers[row];
+            compacted.emailDomains[size] = view.emailDomains[row];
+            addName(compacted.rowsByName, view.names[row], size);
+            size++;
+        }
+        return compacted.published(size, compacted.generation, rehash(compacted, compacted.idTable.length, size));
+    }
+
+    private static void addName(Map<String, int[]> rowsByName, String name, int row) {
+        if (Objects.nonNull(name)) {
+            rowsByName.merge(IndexedEmployeeStore.normalize(name), new int[] {row}, (rows, added) -> {
+                final var merged = Arrays.copyOf(rows, rows.length + 1);
+                merged[rows.length] = row;
+                return merged;
+            });
+        }
+    }
+
+    private static int rowOf(Columns view, UUID id) {
+        final var table = view.idTable;
+        final var mask = table.length - 1;
+        final var most = id.getMostSignificantBits();
+        final var least = id.getLeastSignificantBits();
+        for (int slot = hash(most, least) & mask; ; slot = (slot + 1) & mask) {
+            final var entry = table[slot];
+            if (entry == 0) {
+                return ABSENT;
+            }
+            final var row = entry - 1;
+            // A slot filled after view was read may point past it; such a row is not visible yet.
+            if (row < view.size && view.mostSignificantBits[row] == most && view.leastSignificantBits[row] == least) {
+                return row;
+            }
+        }
+    }
+
+    /*
+     * Fills an empty slot of the table in place, unless it is time to rehash into a bigger one.
+     */
+    private static int[] insertId(Columns view, UUID id, int row) {
+        var table = view.idTable;
+        if ((row + 1) * 2 > table.length) {
+            table = rehash(view, table.length * 2, row);
+        }
+        final var mask = table.length - 1;
+        var slot = hash(id.getMostSignificantBits(), id.getLeastSignificantBits()) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = row + 1;
+        return table;
+    }
+
+    /*
+     * Points the slot of a re-added id at its new row, in a copy of the table: readers of the current columns must
+     * keep finding the old row.
+     */
+    private static int[] moveId(Columns view, int previousRow, int row) {
+        if ((row + 1) * 2 > view.idTable.length) {
+            return rehash(view, view.idTable.length * 2, row + 1);
+        }
+        final var table = view.idTable.clone();
+        final var mask = table.length - 1;
+        var slot = hash(view.mostSignificantBits[previousRow], view.leastSignificantBits[previousRow]) & mask;
+        while (table[slot] != previousRow + 1) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = row + 1;
+        return table;
+    }
+
+    /*
+     * Builds a table of the given length over the first rows of view. An id held by several rows maps to the last.
+     */
+    private static int[] rehash(Columns view, int length, int rows) {
+        final var table = new int[length];
+        final var mask = length - 1;
+        for (int row = 0; row < rows; row++) {
+            final var most = view.mostSignificantBits[row];
+            final var least = view.leastSignificantBits[row];
+            var slot = hash(most, least) & mask;
+            while (table[slot] != 0
+                    && (view.mostSignificantBits[table[slot] - 1] != most
+                            || view.leastSignificantBits[table[slot] - 1] != least)) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = row + 1;
+        }
+        return table;
+    }
+
+    private MockEmployee materialize(Columns view, int row) {
+        final var domain = view.emailDomains[row];
+        final var user = view.emailUsers[row];
+        return MockEmployee.builder()
+                .id(new UUID(view.mostSignificantBits[row], view.leastSignificantBits[row]))
+                .name(view.names[row])
+                .salary(decode(view.salaries[row]))
+                .age(decode(view.ages[row]))
+                .title(titles.decode(view.titles[row]))
+                .email(domain < 0 ? user : user + "@" + emailDomains.decode(domain))
+                .build();
+    }
+
+    private static int nextLive(Columns view, int row) {
+        while (row < view.size && view.deleted[row]) {
+            row++;
+        }
+        return row;
+    }
+
+    private static int hash(long most, long least) {
+        final var mixed = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static int encode(Integer value) {
+        return value == null ? ABSENT : value;
+    }
+
+    private static Integer decode(int value) {
+        return value == ABSENT ? null : value;
+    }
+
+    /*
+     * The column arrays and the number of rows published in them, with the lookups over those rows: an open-addressing
+     * table from id to row + 1 (0 is an empty slot, probed linearly; deleted rows stay in it) and the live rows of each
+     * normalized name, ascending. Growing copies the arrays into a new instance; rows below size are never written
+     * again, so readers holding an older instance still see complete rows.
+     */
+    private static final class Columns {
+        final int size;
+        final int generation;
+        final int[] idTable;
+        final Map<String, int[]> rowsByName;
+        final long[] mostSignificantBits;
+        final long[] leastSignificantBits;
+        final String[] names;
+        final int[] salaries;
+        final int[] ages;
+        final int[] titles;
+        final String[] emailUsers;
+        final int[] emailDomains;
+        final boolean[] deleted;
+
+        Columns(int capacity) {
+            this(capacity, 0);
+        }
+
+        Columns(int capacity, int generation) {
+            this(
+                    0,
+                    generation,
+                    new int[capacity * 2],
+                    new ConcurrentHashMap<>(),
+                    new long[capacity],
+                    new long[capacity],
+                    new String[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new String[capacity],
+                    new int[capacity],
+                    new boolean[capacity]);
+        }
+
+        private Columns(
+                int size,
+                int generation,
+                int[] idTable,
+                Map<String, int[]> rowsByName,
+                long[] mostSignificantBits,
+                long[] leastSignificantBits,
+                String[] names,
+                int[] salaries,
+                int[] ages,
+                int[] titles,
+                String[] emailUsers,
+                int[] emailDomains,
+                boolean[] deleted) {
+            this.size = size;
+            this.generation = generation;
+            this.idTable = idTable;
+            this.rowsByName = rowsByName;
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
+            this.names = names;
+            this.salaries = salaries;
+            this.ages = ages;
+            this.titles = titles;
+            this.emailUsers = emailUsers;
+            this.emailDomains = emailDomains;
+            this.deleted = deleted;
+        }
+
+        int capacity() {
+            return mostSignificantBits.length;
+        }
+
+        Columns published(int newSize, int newGeneration, int[] newIdTable) {
+            return new Columns(
+                    newSize,
+                    newGeneration,
+                    newIdTable,
+                    rowsByName,
+                    mostSignificantBits,
+                    leastSignificantBits,
+                    names,
+                    salaries,
+                    ages,
+                    titles,
+                    emailUsers,
+                    emailDomains,
+                    deleted);
+        }
+
+        Columns grow() {
+            final var capacity = capacity() * 2;
+            return new Columns(
+                    size,
+                    generation,
+                    idTable,
+                    rowsByName,
+                    Arrays.copyOf(mostSignificantBits, capacity),
+                    Arrays.copyOf(leastSignificantBits, capacity),
+                    Arrays.copyOf(names, capacity),
+                    Arrays.copyOf(salaries, capacity),
+                    Arrays.copyOf(ages, capacity),
+                    Arrays.copyOf(titles, capacity),
+                    Arrays.copyOf(emailUsers, capacity),
+                    Arrays.copyOf(emailDomains, capacity),
+                    Arrays.copyOf(deleted, capacity));
+        }
+    }
+
+    /*
+     * Append-only string dictionary: codes are positions in values, -1 encodes null. Written under the store lock and
+     * published with the row that first uses a code.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        private volatile String[] values = new String[16];
+        private int size;
+
+        int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            final var code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = value;
+            codes.put(value, size);
+            return size++;
+        }
+
+        String decode(int code) {
+            return code < 0 ? null : values[code];
+        }
+    }
+
+    /*
+     * Immutable snapshot: row numbers over the columns as they were when it was taken. Employees are materialized on
+     * each get, so a snapshot costs four bytes per employee.
+     */
+    private final class Rows extends AbstractList<MockEmployee> implements RandomAccess {
+        private final Columns view;
+        private final int[] rows;
+
+        Rows(Columns view, int[] rows) {
+            this.view = view;
+            this.rows = rows;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return materialize(view, rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeSort;
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor: the sort, direction, id and sort value of the last employee on a page, URL-safe Base64
+ * encoded. A cursor only resumes the query it came from; using it with another sort or order is rejected.
+ */
+final class EmployeeCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    private EmployeeCursor() {}
+
+    static String encode(EmployeeSort sort, boolean descending, MockEmployee last) {
+        String value = sort.cursorValue(last);
+        String cursor = String.join(
+                SEPARATOR,
+                sort.name(),
+                descending ? "desc" : "asc",
+                last.getId().toString(),
+                value == null ? "" : "=" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a probe employee positioned where the page ended; the next page holds the employees ordered after it.
+     */
+    static MockEmployee decode(String cursor, EmployeeSort sort, boolean descending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (parts.length != 4 || !parts[0].equals(sort.name()) || !parts[1].equals(descending ? "desc" : "asc")) {
+            throw new IllegalArgumentException("Cursor does not belong to this sort and order");
+        }
+        try {
+            String value = parts[3].isEmpty() ? null : parts[3].substring(1);
+            return sort.probe(MockEmployee.builder().id(UUID.fromString(parts[2])), value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+    }
+}
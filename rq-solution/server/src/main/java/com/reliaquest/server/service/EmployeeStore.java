@@ -0,0 +1,77 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * The mutable roster behind {@link MockEmployeeService}, in insertion order. Implementations must allow lock-free
+ * reads concurrently with writes; the service serializes writes itself, so that they line up with its versions and
+ * change log. Picked with {@code mock.employees.storage}: {@code objects} ({@link IndexedEmployeeStore}) or
+ * {@code columnar} ({@link ColumnarEmployeeStore}).
+ */
+public interface EmployeeStore {
+
+    int size();
+
+    /**
+     * All employees in insertion order, as a live view that is weakly consistent with concurrent writes.
+     */
+    Collection<MockEmployee> values();
+
+    Optional<MockEmployee> findById(@NonNull UUID id);
+
+    /**
+     * The oldest employee whose name equals {@code name}, ignoring case.
+     */
+    Optional<MockEmployee> findFirstByName(@NonNull String name);
+
+    /**
+     * Adds {@code mockEmployee} unless it has no id or an employee with the same id is stored. An id whose employee was
+     * removed can be added again.
+     */
+    boolean add(@NonNull MockEmployee mockEmployee);
+
+    Optional<MockEmployee> removeById(@NonNull UUID id);
+
+    /**
+     * An immutable copy of the current roster. Callers make sure no write runs while it is taken.
+     */
+    default List<MockEmployee> snapshot() {
+        return List.copyOf(values());
+    }
+
+    /**
+     * Derives the roster after {@code changes} from {@code previous}, an earlier result of this store's snapshot
+     * methods. Runs concurrently with writes, so it must only rely on {@code previous} and {@code changes}. Empty when
+     * the store can no longer relate {@code previous} to its current state; the caller then takes a full snapshot.
+     */
+    default Optional<List<MockEmployee>> snapshot(List<MockEmployee> previous, List<EmployeeChange> changes) {
+        final var created = new LinkedHashMap<UUID, MockEmployee>();
+        final var deleted = new HashSet<UUID>();
+        for (final var change : changes) {
+            final var id = change.employee().getId();
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                created.put(id, change.employee());
+            } else if (created.remove(id) == null) {
+                deleted.add(id);
+            }
+        }
+        final var next = new ArrayList<MockEmployee>(previous.size() + created.size());
+        for (final var employee : previous) {
+            if (!deleted.contains(employee.getId())) {
+                next.add(employee);
+            }
+        }
+        next.addAll(created.values());
+        return Optional.of(Collections.unmodifiableList(next));
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The roster as {@link MockEmployee} objects, indexed by id and by normalized name, in insertion order. Reads never
+ * lock: lookups are hash lookups, and iteration walks a skip list that is weakly consistent with concurrent writes.
+ * Writes are safe to run concurrently; each index is updated atomically, and callers that need several writes to
+ * appear in a given order (such as the change log) serialize them themselves.
+ */
+@Slf4j
+public class IndexedEmployeeStore implements EmployeeStore {
+
+    /*
+     * Insertion sequence of each stored employee; keys of the ordered view and of the name index entries.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+
+    /*
+     * Normalized name to the sequences of the employees carrying it, oldest first.
+     */
+    private final Map<String, ConcurrentSkipListSet<Long>> byName = new ConcurrentHashMap<>();
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    @Override
+    public Collection<MockEmployee> values() {
+        return Collections.unmodifiableCollection(bySequence.values());
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var entry = byId.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.employee());
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var sequences = byName.get(normalize(name));
+        if (sequences == null) {
+            return Optional.empty();
+        }
+        // A sequence may briefly outlive its employee while a removal is in flight; skip to the next one.
+        for (final var next : sequences) {
+            final var employee = bySequence.get(next);
+            if (employee != null) {
+                return Optional.of(employee);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean add(@NonNull MockEmployee mockEmployee) {
+        if (Objects.isNull(mockEmployee.getId())) {
+            log.warn("Ignoring employee without an id: {}", mockEmployee);
+            return false;
+        }
+        final var entry = new Entry(sequence.incrementAndGet(), mockEmployee);
+        if (byId.putIfAbsent(mockEmployee.getId(), entry) != null) {
+            return false;
+        }
+        bySequence.put(entry.sequence(), mockEmployee);
+        if (Objects.nonNull(mockEmployee.getName())) {
+            // Inside compute, so a concurrent removal cannot drop the set between its lookup and this add.
+            byName.compute(normalize(mockEmployee.getName()), (ignored, sequences) -> {
+                final var names = sequences == null ? new ConcurrentSkipListSet<Long>() : sequences;
+                names.add(entry.sequence());
+                return names;
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        final var entry = byId.remove(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        bySequence.remove(entry.sequence());
+        final var name = entry.employee().getName();
+        if (Objects.nonNull(name)) {
+            byName.computeIfPresent(normalize(name), (ignored, sequences) -> {
+                sequences.remove(entry.sequence());
+                return sequences.isEmpty() ? null : sequences;
+            });
+        }
+        return Optional.of(entry.employee());
+    }
+
+    static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long sequence, MockEmployee employee) {}
+}
@@ -3,56 +3,211 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeePage;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.EmployeeSort;
 import com.reliaquest.server.model.MockEmployee;
-import java.util.List;
-import java.util.Objects;
+import com.reliaquest.server.model.RosterSnapshot;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore store;
+
+    private final int maxPageSize;
+
+    /*
+     * Bumped on every change to the roster; backs the ETag of the GET endpoints and the change log. It starts at the
+     * boot time in microseconds, so that a version handed out by a previous run is never taken for one of this run.
+     */
+    private final AtomicLong version = new AtomicLong(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
+
+    /*
+     * The most recent changes, oldest first, one per version; guarded by this service's lock.
+     */
+    private final Deque<EmployeeChange> changeLog = new ArrayDeque<>();
+
+    private final int changeLogSize;
+
+    /*
+     * Last published snapshot; replaced lazily by the first read after a batch of writes. Built under snapshotLock, so
+     * concurrent readers of a stale snapshot build the next one once.
+     */
+    private volatile RosterSnapshot snapshot;
+
+    private final Object snapshotLock = new Object();
+
+    public MockEmployeeService(
+            Faker faker,
+            EmployeeStore store,
+            @Value("${mock.employees.max-page-size:1000}") int maxPageSize,
+            @Value("${mock.employees.change-log-size:1000}") int changeLogSize) {
+        this.faker = faker;
+        this.store = store;
+        this.maxPageSize = maxPageSize;
+        this.changeLogSize = changeLogSize;
+        this.snapshot = new RosterSnapshot(version.get(), store.snapshot());
+    }
+
+    /**
+     * Returns an immutable snapshot of the current roster. Reads between writes share one snapshot; the first read
+     * after a write derives the next one from the previous snapshot and the change log, so writers are only held up
+     * for the moment it takes to copy the new log entries. Only when the log no longer reaches back to the previous
+     * snapshot, or the store cannot derive the next one from it, is the roster copied under the write lock.
+     */
+    public RosterSnapshot snapshot() {
+        final var published = snapshot;
+        if (published.version() == version.get()) {
+            return published;
+        }
+        synchronized (snapshotLock) {
+            final var previous = snapshot;
+            final EmployeeChanges changes;
+            synchronized (this) {
+                if (previous.version() == version.get()) {
+                    return previous;
+                }
+                changes = changesSince(previous.version());
+                if (changes.resync()) {
+                    final var copied = copy();
+                    snapshot = copied;
+                    return copied;
+                }
+            }
+            final var next = store.snapshot(previous.employees(), changes.changes())
+                    .map(employees -> new RosterSnapshot(changes.version(), employees))
+                    .orElseGet(this::copy);
+            snapshot = next;
+            return next;
+        }
+    }
+
+    private synchronized RosterSnapshot copy() {
+        return new RosterSnapshot(version.get(), store.snapshot());
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.findById(uuid);
+    }
+
+    /**
+     * Filters {@code snapshot} and returns the page after {@code query.after}. Pages are capped at
+     * {@code mock.employees.max-page-size}; a query without a limit gets one maximum-size page.
+     * <p>
+     * Only the page (plus one employee, to tell whether there is a next page) is kept while scanning: a bounded heap
+     * holds the {@code limit + 1} smallest matches seen so far, so a page costs O(n log limit) and no roster-sized
+     * buffer however deep it is.
+     */
+    public EmployeePage query(@NonNull RosterSnapshot snapshot, @NonNull EmployeeQuery query) {
+        final var sort = EmployeeSort.from(query.getSort());
+        final var descending = query.isDescending();
+        final var comparator = sort.comparator(descending);
+        final var after = query.getAfter() == null ? null : EmployeeCursor.decode(query.getAfter(), sort, descending);
+        final var limit = query.getLimit() == null ? maxPageSize : Math.min(query.getLimit(), maxPageSize);
+
+        // Largest of the kept employees on top, so it is the one evicted by a smaller match.
+        final var smallest = new PriorityQueue<MockEmployee>(limit + 1, comparator.reversed());
+        for (final var employee : snapshot.employees()) {
+            if (!query.matches(employee) || (after != null && comparator.compare(employee, after) <= 0)) {
+                continue;
+            }
+            if (smallest.size() <= limit) {
+                smallest.add(employee);
+            } else if (comparator.compare(employee, smallest.peek()) < 0) {
+                smallest.poll();
+                smallest.add(employee);
+            }
+        }
+        final var page = new ArrayList<>(smallest);
+        page.sort(comparator);
+        if (page.size() <= limit) {
+            return new EmployeePage(page, null);
+        }
+        page.remove(limit);
+        return new EmployeePage(page, EmployeeCursor.encode(sort, descending, page.get(limit - 1)));
     }
 
-    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+    /**
+     * Returns the changes made after version {@code since}, or a resync marker when they are no longer all in the log
+     * (or {@code since} is not a version of this run).
+     */
+    public synchronized EmployeeChanges changesSince(long since) {
+        final var current = version.get();
+        if (since > current || since < current - changeLog.size()) {
+            return EmployeeChanges.resync(current);
+        }
+        final var changes = new ArrayList<EmployeeChange>((int) (current - since));
+        final var iterator = changeLog.descendingIterator();
+        while (iterator.hasNext()) {
+            final var change = iterator.next();
+            if (change.version() <= since) {
+                break;
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return new EmployeeChanges(current, false, changes);
+    }
+
+    public synchronized MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        if (!store.add(mockEmployee)) {
+            throw new IllegalStateException("Employee id " + mockEmployee.getId() + " is already taken");
+        }
+        record(EmployeeChange.Type.CREATED, mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
+    public synchronized boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var mockEmployee = store.findFirstByName(input.getName());
+        mockEmployee.ifPresent(this::remove);
+        return mockEmployee.isPresent();
+    }
+
+    public synchronized Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = store.findById(uuid);
+        mockEmployee.ifPresent(this::remove);
+        return mockEmployee;
+    }
+
+    private void remove(MockEmployee mockEmployee) {
+        store.removeById(mockEmployee.getId());
+        record(EmployeeChange.Type.DELETED, mockEmployee);
+        log.debug("Removed employee: {}", mockEmployee);
+    }
 
-        return false;
+    private void record(EmployeeChange.Type type, MockEmployee mockEmployee) {
+        changeLog.addLast(new EmployeeChange(version.incrementAndGet(), type, mockEmployee));
+        while (changeLog.size() > changeLogSize) {
+            changeLog.removeFirst();
+        }
     }
 }
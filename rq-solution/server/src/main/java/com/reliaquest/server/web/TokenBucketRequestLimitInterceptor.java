@@ -0,0 +1,134 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Rate limits requests with one token bucket per key (client address, route or a single global bucket). Each bucket
+ * holds up to {@code burst} tokens and refills at {@code rate} per second; a request takes one token or is answered
+ * with 429 and a {@code Retry-After} telling the client when the next token is due. Every response carries
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset} (seconds until the bucket is full).
+ * <p>
+ * Buckets are lock-free: each is a single {@link AtomicLong} holding the time at which it will be full again (the
+ * generic cell rate algorithm), so taking a token is one compare-and-set, and a full bucket needs no state at all.
+ */
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    public enum Key {
+        CLIENT,
+        ROUTE,
+        GLOBAL;
+
+        public static Key from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Key key;
+
+    private final int burst;
+
+    /*
+     * Nanoseconds per token, and how far ahead of now a bucket's full time may run before it is empty.
+     */
+    private final long interval;
+
+    private final long tolerance;
+
+    private final int maxBuckets;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRequestLimitInterceptor(Key key, double rate, int burst, int maxBuckets) {
+        this(key, rate, burst, maxBuckets, System::nanoTime);
+    }
+
+    TokenBucketRequestLimitInterceptor(Key key, double rate, int burst, int maxBuckets, LongSupplier nanoClock) {
+        if (rate <= 0 || burst < 1 || maxBuckets < 1) {
+            throw new IllegalArgumentException("rate, burst and max-buckets must be positive");
+        }
+        this.key = key;
+        this.burst = burst;
+        this.interval = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / rate));
+        this.tolerance = interval * burst;
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var bucket = bucket(key(request));
+        final var now = nanoClock.getAsLong();
+        while (true) {
+            final var full = bucket.get();
+            final var start = full - now < 0 ? now : full;
+            final var next = start + interval;
+            if (next - now > tolerance) {
+                final var wait = next - now - tolerance;
+                writeHeaders(response, 0, start - now);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds(wait)));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                return false;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                writeHeaders(response, (int) ((tolerance - (next - now)) / interval), next - now);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Number of buckets currently held; full buckets are only dropped once {@code maxBuckets} is reached.
+     */
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private void writeHeaders(HttpServletResponse response, int remaining, long untilFull) {
+        response.setHeader(LIMIT_HEADER, String.valueOf(burst));
+        response.setHeader(REMAINING_HEADER, String.valueOf(remaining));
+        response.setHeader(RESET_HEADER, String.valueOf(seconds(untilFull)));
+    }
+
+    private AtomicLong bucket(String name) {
+        final var bucket = buckets.get(name);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            // A bucket whose full time has passed is indistinguishable from a new one, so it can go.
+            final var now = nanoClock.getAsLong();
+            buckets.values().removeIf(candidate -> candidate.get() - now <= 0);
+        }
+        return buckets.computeIfAbsent(name, ignored -> new AtomicLong(nanoClock.getAsLong()));
+    }
+
+    private String key(HttpServletRequest request) {
+        return switch (key) {
+            case CLIENT -> request.getRemoteAddr();
+            case ROUTE -> request.getMethod() + " "
+                    + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            case GLOBAL -> "";
+        };
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FastMockEmployeeGeneratorTest {
+
+    private static final int COUNT = FastMockEmployeeGenerator.CHUNK_SIZE + 100;
+
+    @Test
+    void sameSeedGivesTheSameRoster() {
+        final var roster = new FastMockEmployeeGenerator(42).generate(1_000);
+
+        assertEquals(roster, new FastMockEmployeeGenerator(42).generate(1_000));
+        assertNotEquals(roster, new FastMockEmployeeGenerator(43).generate(1_000));
+    }
+
+    @Test
+    void generatesUniqueEmployeesWithinRange() {
+        final var roster = new FastMockEmployeeGenerator(7).generate(COUNT);
+
+        assertEquals(COUNT, roster.size());
+        final var ids = new HashSet<>();
+        final var emails = new HashSet<>();
+        for (final var employee : roster) {
+            assertTrue(ids.add(employee.getId()), "duplicate id " + employee.getId());
+            assertTrue(emails.add(employee.getEmail()), "duplicate email " + employee.getEmail());
+            assertEquals(4, employee.getId().version());
+            assertEquals(2, employee.getId().variant());
+            assertTrue(employee.getEmail().matches("[a-z0-9]*\\.[a-z0-9]*\\d+@company\\.com"), employee.getEmail());
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000, employee.toString());
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70, employee.toString());
+            assertTrue(employee.getName().contains(" "), employee.getName());
+            assertFalse(employee.getTitle().isBlank(), employee.toString());
+        }
+    }
+
+    @Test
+    void chunksAddUpToTheWholeRoster() {
+        final var generator = new FastMockEmployeeGenerator(11);
+        final var chunks = new ArrayList<List<MockEmployee>>();
+
+        generator.generate(COUNT, chunks::add);
+
+        assertEquals(
+                List.of(FastMockEmployeeGenerator.CHUNK_SIZE, 100),
+                chunks.stream().map(List::size).toList());
+        assertEquals(
+                generator.generate(COUNT), chunks.stream().flatMap(List::stream).toList());
+        assertEquals(
+                generator.employee(FastMockEmployeeGenerator.CHUNK_SIZE),
+                chunks.get(1).get(0));
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.IndexedEmployeeStore;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/employee";
+
+    private final MockEmployee amy = employee(1, "Amy");
+    private final MockEmployee bob = employee(2, "Bob");
+
+    private MockEmployeeService service;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var store = new IndexedEmployeeStore();
+        store.add(amy);
+        store.add(bob);
+        service = new MockEmployeeService(new Faker(), store, 1000, 1000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(service))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void deleteByIdAnswersWithTheDeletedEmployee() throws Exception {
+        mockMvc.perform(delete(BASE_PATH + "/" + amy.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(amy.getId().toString()))
+                .andExpect(jsonPath("$.data.employee_name").value("Amy"))
+                .andExpect(jsonPath("$.status").value("Successfully processed request."));
+
+        mockMvc.perform(get(BASE_PATH + "/" + amy.getId())).andExpect(status().isNotFound());
+        assertTrue(service.findById(bob.getId()).isPresent());
+    }
+
+    @Test
+    void deleteByIdOfUnknownIdIsNotFound() throws Exception {
+        final var version = service.getVersion();
+
+        mockMvc.perform(delete(BASE_PATH + "/" + new UUID(0, 99)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.data").doesNotExist());
+        mockMvc.perform(delete(BASE_PATH + "/not-a-uuid")).andExpect(status().isBadRequest());
+
+        assertEquals(version, service.getVersion());
+        assertEquals(2, service.snapshot().employees().size());
+    }
+
+    @Test
+    void deleteByIdIsRecordedInTheChangeFeed() throws Exception {
+        final var since = service.getVersion();
+
+        mockMvc.perform(delete(BASE_PATH + "/" + bob.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get(BASE_PATH + "/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(since + 1))
+                .andExpect(jsonPath("$.data.changes.length()").value(1))
+                .andExpect(jsonPath("$.data.changes[0].version").value(since + 1))
+                .andExpect(jsonPath("$.data.changes[0].type").value("DELETED"))
+                .andExpect(jsonPath("$.data.changes[0].employee.id")
+                        .value(bob.getId().toString()));
+    }
+
+    @Test
+    void rosterIsRevalidatedWithItsETag() throws Exception {
+        final var eTag = mockMvc.perform(get(BASE_PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().string(
+                                MockEmployeeController.ROSTER_VERSION_HEADER, String.valueOf(service.getVersion())))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertEquals("W/\"" + service.getVersion() + "\"", eTag);
+
+        mockMvc.perform(get(BASE_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get(BASE_PATH + "/" + amy.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        final var input = new CreateMockEmployeeInput();
+        input.setName("Cid");
+        input.setSalary(3000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        service.create(input);
+
+        mockMvc.perform(get(BASE_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"" + service.getVersion() + "\""))
+                .andExpect(jsonPath("$.data.length()").value(3));
+    }
+
+    private static MockEmployee employee(int number, String name) {
+        return MockEmployee.builder()
+                .id(new UUID(0, number))
+                .name(name)
+                .salary(1000 * number)
+                .age(20 + number)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
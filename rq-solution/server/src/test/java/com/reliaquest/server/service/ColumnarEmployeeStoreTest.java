@@ -0,0 +1,171 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ColumnarEmployeeStoreTest {
+
+    private final Random random = new Random(25);
+
+    /*
+     * Runs the same random writes and reads against both stores and checks that every answer, every delta snapshot
+     * and the final roster agree. The mix deletes about as often as it creates, so the columnar store compacts
+     * several times along the way, and it re-adds removed ids.
+     */
+    @Test
+    void behavesLikeIndexedStore() {
+        final var expected = new IndexedEmployeeStore();
+        final var actual = new ColumnarEmployeeStore();
+        final var stored = new ArrayList<MockEmployee>();
+        final var removed = new ArrayList<MockEmployee>();
+        final var changes = new ArrayList<EmployeeChange>();
+        var expectedSnapshot = expected.snapshot();
+        var actualSnapshot = actual.snapshot();
+        var version = 0L;
+        var fullSnapshots = 0;
+
+        for (var i = 0; i < 50_000; i++) {
+            final var op = random.nextInt(100);
+            if (op < 40 || stored.isEmpty()) {
+                final var employee = employee(UUID.randomUUID(), i);
+                assertTrue(expected.add(employee));
+                assertTrue(actual.add(employee));
+                stored.add(employee);
+                changes.add(new EmployeeChange(++version, EmployeeChange.Type.CREATED, employee));
+            } else if (op < 70) {
+                final var employee = stored.remove(random.nextInt(stored.size()));
+                final var removedExpected = expected.removeById(employee.getId());
+                assertEquals(removedExpected, actual.removeById(employee.getId()));
+                assertEquals(Optional.of(employee), removedExpected);
+                removed.add(employee);
+                changes.add(new EmployeeChange(++version, EmployeeChange.Type.DELETED, employee));
+            } else if (op < 80) {
+                final var name = "name" + random.nextInt(500);
+                final var first = expected.findFirstByName(name);
+                assertEquals(first, actual.findFirstByName(name));
+                if (first.isPresent()) {
+                    expected.removeById(first.get().getId());
+                    actual.removeById(first.get().getId());
+                    stored.remove(first.get());
+                    removed.add(first.get());
+                    changes.add(new EmployeeChange(++version, EmployeeChange.Type.DELETED, first.get()));
+                }
+            } else if (op < 85 && !removed.isEmpty()) {
+                final var readded =
+                        employee(removed.remove(random.nextInt(removed.size())).getId(), i);
+                assertTrue(expected.add(readded));
+                assertTrue(actual.add(readded));
+                stored.add(readded);
+                changes.add(new EmployeeChange(++version, EmployeeChange.Type.CREATED, readded));
+            } else if (op < 88) {
+                final var duplicate =
+                        employee(stored.get(random.nextInt(stored.size())).getId(), i);
+                assertFalse(expected.add(duplicate));
+                assertFalse(actual.add(duplicate));
+            } else {
+                final var id = random.nextBoolean()
+                        ? stored.get(random.nextInt(stored.size())).getId()
+                        : UUID.randomUUID();
+                assertEquals(expected.findById(id), actual.findById(id));
+            }
+
+            if (i % 251 == 0) {
+                expectedSnapshot = expected.snapshot(expectedSnapshot, changes).orElseThrow();
+                final var derived = actual.snapshot(actualSnapshot, changes);
+                if (derived.isEmpty()) {
+                    fullSnapshots++;
+                }
+                actualSnapshot = derived.orElseGet(actual::snapshot);
+                changes.clear();
+                assertEquals(expectedSnapshot, actualSnapshot, "snapshot after op " + i);
+                assertEquals(expected.snapshot(), actualSnapshot, "fresh snapshot after op " + i);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(List.copyOf(expected.values()), List.copyOf(actual.values()));
+        assertTrue(fullSnapshots > 0, "no compaction or re-add forced a full snapshot");
+    }
+
+    @Test
+    void addsRemovedIdAgain() {
+        for (final var store : List.of(new IndexedEmployeeStore(), new ColumnarEmployeeStore())) {
+            final var id = UUID.randomUUID();
+            final var before = store.snapshot();
+            assertTrue(store.add(employee(id, 1)));
+            assertTrue(store.removeById(id).isPresent());
+
+            final var readded = employee(id, 2);
+            assertTrue(store.add(readded));
+            assertFalse(store.add(employee(id, 3)));
+
+            assertEquals(Optional.of(readded), store.findById(id));
+            assertEquals(List.of(readded), store.snapshot());
+            final var changes = List.of(
+                    new EmployeeChange(1, EmployeeChange.Type.CREATED, employee(id, 1)),
+                    new EmployeeChange(2, EmployeeChange.Type.DELETED, employee(id, 1)),
+                    new EmployeeChange(3, EmployeeChange.Type.CREATED, readded));
+            assertEquals(
+                    List.of(readded), store.snapshot(before, changes).orElseGet(store::snapshot), store.toString());
+        }
+    }
+
+    @Test
+    void compactionLeavesEarlierSnapshotsIntact() {
+        final var store = new ColumnarEmployeeStore();
+        final var employees = new ArrayList<MockEmployee>();
+        for (var i = 0; i < 5_000; i++) {
+            final var employee = employee(UUID.randomUUID(), i);
+            store.add(employee);
+            employees.add(employee);
+        }
+        final var before = store.snapshot();
+
+        final var kept = new ArrayList<MockEmployee>();
+        final var changes = new ArrayList<EmployeeChange>();
+        for (var i = 0; i < employees.size(); i++) {
+            final var employee = employees.get(i);
+            if (i % 4 == 0) {
+                kept.add(employee);
+            } else {
+                store.removeById(employee.getId());
+                changes.add(new EmployeeChange(i, EmployeeChange.Type.DELETED, employee));
+            }
+        }
+
+        assertEquals(employees, before);
+        assertTrue(store.snapshot(before, changes).isEmpty(), "deltas across a compaction must be refused");
+        assertEquals(kept, store.snapshot());
+        assertEquals(kept, List.copyOf(store.values()));
+        for (final var employee : kept) {
+            assertEquals(Optional.of(employee), store.findById(employee.getId()));
+        }
+        assertEquals(Optional.empty(), store.findById(employees.get(1).getId()));
+    }
+
+    private MockEmployee employee(UUID id, int sequence) {
+        return MockEmployee.builder()
+                .id(id)
+                .name(random.nextInt(5) == 0 ? null : "Name" + random.nextInt(500))
+                .salary(random.nextInt(4) == 0 ? null : random.nextInt())
+                .age(random.nextInt(80))
+                .title(random.nextInt(7) == 0 ? null : "Title " + random.nextInt(30))
+                .email(
+                        random.nextInt(9) == 0
+                                ? null
+                                : random.nextBoolean()
+                                        ? "user" + sequence + "@domain" + random.nextInt(3) + ".com"
+                                        : "user" + sequence)
+                .build();
+    }
+}
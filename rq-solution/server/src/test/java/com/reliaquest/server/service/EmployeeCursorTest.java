@@ -0,0 +1,77 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.server.model.EmployeeSort;
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCursorTest {
+
+    private final MockEmployee employee = MockEmployee.builder()
+            .id(UUID.fromString("d8d67f81-dc0c-40ea-99a2-05640c4cef2a"))
+            .name("Zoë\nÅngström")
+            .salary(4000)
+            .age(23)
+            .build();
+
+    @Test
+    void roundTripsEachSort() {
+        final var byName = EmployeeCursor.decode(
+                EmployeeCursor.encode(EmployeeSort.NAME, false, employee), EmployeeSort.NAME, false);
+        assertEquals(employee.getId(), byName.getId());
+        assertEquals(employee.getName(), byName.getName());
+
+        final var bySalary = EmployeeCursor.decode(
+                EmployeeCursor.encode(EmployeeSort.SALARY, true, employee), EmployeeSort.SALARY, true);
+        assertEquals(employee.getId(), bySalary.getId());
+        assertEquals(4000, bySalary.getSalary());
+
+        final var byId =
+                EmployeeCursor.decode(EmployeeCursor.encode(EmployeeSort.ID, false, employee), EmployeeSort.ID, false);
+        assertEquals(employee.getId(), byId.getId());
+    }
+
+    @Test
+    void roundTripsMissingSortValue() {
+        final var withoutSalary = employee.toBuilder().salary(null).build();
+
+        final var probe = EmployeeCursor.decode(
+                EmployeeCursor.encode(EmployeeSort.SALARY, false, withoutSalary), EmployeeSort.SALARY, false);
+
+        assertEquals(employee.getId(), probe.getId());
+        assertNull(probe.getSalary());
+    }
+
+    @Test
+    void rejectsCursorOfAnotherSortOrOrder() {
+        final var cursor = EmployeeCursor.encode(EmployeeSort.SALARY, false, employee);
+
+        assertThrows(IllegalArgumentException.class, () -> EmployeeCursor.decode(cursor, EmployeeSort.AGE, false));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeCursor.decode(cursor, EmployeeSort.SALARY, true));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(
+                IllegalArgumentException.class, () -> EmployeeCursor.decode("not base64!", EmployeeSort.ID, false));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> EmployeeCursor.decode(encode("ID\nasc\nnot-a-uuid\n"), EmployeeSort.ID, false));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> EmployeeCursor.decode(
+                        encode("SALARY\nasc\n" + employee.getId() + "\n=lots"), EmployeeSort.SALARY, false));
+        assertThrows(
+                IllegalArgumentException.class, () -> EmployeeCursor.decode(encode("ID\nasc"), EmployeeSort.ID, false));
+    }
+
+    private static String encode(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class IndexedEmployeeStoreTest {
+
+    private final IndexedEmployeeStore store = new IndexedEmployeeStore();
+
+    @Test
+    void findsTheOldestEmployeeByNameIgnoringCase() {
+        final var first = employee(1, "Amy");
+        final var second = employee(2, "AMY");
+        store.add(first);
+        store.add(employee(3, "Bob"));
+        store.add(second);
+
+        assertEquals(Optional.of(first), store.findFirstByName("amy"));
+        assertEquals(Optional.of(first), store.findFirstByName("aMy"));
+        assertEquals(Optional.empty(), store.findFirstByName("Cid"));
+
+        assertEquals(Optional.of(first), store.removeById(first.getId()));
+        assertEquals(Optional.of(second), store.findFirstByName("Amy"));
+
+        store.removeById(second.getId());
+        assertEquals(Optional.empty(), store.findFirstByName("Amy"));
+    }
+
+    @Test
+    void keepsInsertionOrderAcrossRemovals() {
+        final var amy = employee(1, "Amy");
+        final var bob = employee(2, "Bob");
+        final var cid = employee(3, "Cid");
+        store.add(amy);
+        store.add(bob);
+        store.add(cid);
+
+        store.removeById(bob.getId());
+        final var readded = employee(2, "Bob");
+        assertTrue(store.add(readded));
+
+        assertEquals(List.of(amy, cid, readded), List.copyOf(store.values()));
+        assertEquals(List.of(amy, cid, readded), store.snapshot());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void rejectsDuplicateAndMissingIds() {
+        final var amy = employee(1, "Amy");
+        assertTrue(store.add(amy));
+
+        assertFalse(store.add(employee(1, "Other")));
+        assertFalse(store.add(MockEmployee.builder().name("Nobody").build()));
+
+        assertEquals(Optional.of(amy), store.findById(amy.getId()));
+        assertEquals(Optional.of(amy), store.findFirstByName("Amy"));
+        assertEquals(Optional.empty(), store.findFirstByName("Nobody"));
+        assertEquals(Optional.empty(), store.removeById(new UUID(0, 99)));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void storesEmployeesWithoutAName() {
+        final var nameless = MockEmployee.builder().id(new UUID(0, 1)).build();
+
+        assertTrue(store.add(nameless));
+        assertEquals(Optional.of(nameless), store.findById(nameless.getId()));
+        assertEquals(Optional.of(nameless), store.removeById(nameless.getId()));
+        assertEquals(0, store.size());
+    }
+
+    /*
+     * Writers add and remove employees sharing a handful of names while readers look them up. Afterwards every index
+     * must agree with what each writer knows it left behind.
+     */
+    @Test
+    void indexesStayConsistentUnderConcurrentWrites() throws Exception {
+        final var writers = 4;
+        final var perWriter = 5_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        final var start = new CountDownLatch(1);
+        try {
+            final var kept = new ArrayList<Future<List<MockEmployee>>>();
+            for (var writer = 0; writer < writers; writer++) {
+                final var base = writer * perWriter;
+                kept.add(executor.submit(() -> {
+                    start.await();
+                    final var mine = new ArrayList<MockEmployee>();
+                    for (var i = 0; i < perWriter; i++) {
+                        final var employee = employee(base + i + 1, "Name" + (i % 7));
+                        assertTrue(store.add(employee));
+                        if (i % 3 == 0) {
+                            assertEquals(Optional.of(employee), store.removeById(employee.getId()));
+                        } else {
+                            mine.add(employee);
+                        }
+                    }
+                    return mine;
+                }));
+            }
+            final var readers = new ArrayList<Future<?>>();
+            for (var reader = 0; reader < 2; reader++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    for (var i = 0; i < 20_000; i++) {
+                        final var name = "name" + (i % 7);
+                        store.findFirstByName(name)
+                                .ifPresent(employee ->
+                                        assertTrue(employee.getName().equalsIgnoreCase(name)));
+                        final var id = new UUID(0, 1 + i % (writers * perWriter));
+                        store.findById(id).ifPresent(employee -> assertEquals(id, employee.getId()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            final var expected = new HashSet<MockEmployee>();
+            for (final var future : kept) {
+                expected.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            for (final var future : readers) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertEquals(expected.size(), store.size());
+            assertEquals(expected, new HashSet<>(store.values()));
+            for (final var employee : expected) {
+                assertEquals(Optional.of(employee), store.findById(employee.getId()));
+            }
+            for (var i = 0; i < 7; i++) {
+                final var name = "Name" + i;
+                final var oldest = store.values().stream()
+                        .filter(employee -> employee.getName().equals(name))
+                        .findFirst();
+                assertTrue(oldest.isPresent());
+                assertEquals(oldest, store.findFirstByName(name));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MockEmployee employee(int number, String name) {
+        return MockEmployee.builder()
+                .id(new UUID(0, number))
+                .name(name)
+                .salary(1000 * number)
+                .age(20 + number % 40)
+                .build();
+    }
+}
@@ -0,0 +1,347 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.EmployeeSort;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.RosterSnapshot;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private final MockEmployeeService service =
+            new MockEmployeeService(new Faker(), new IndexedEmployeeStore(), 1000, 1000);
+
+    /*
+     * Ids are numbered so that ties on a sort key resolve in id order, 1 before 2 and so on.
+     */
+    private final RosterSnapshot roster = new RosterSnapshot(
+            1,
+            List.of(
+                    employee(5, "eve", 200),
+                    employee(1, "Bob", 100),
+                    employee(7, "amy", null),
+                    employee(3, "bob", 100),
+                    employee(2, "Cid", 300),
+                    employee(6, "Dan", 200),
+                    employee(4, "abe", 100)));
+
+    @Test
+    void pagesAcrossEqualSortKeys() {
+        final var pages = pageThrough("salary", null, 2);
+
+        assertEquals(List.of(7, 1, 3, 4, 5, 6, 2), ids(pages));
+    }
+
+    @Test
+    void pagesInDescendingOrder() {
+        final var pages = pageThrough("salary", "desc", 2);
+
+        assertEquals(List.of(2, 5, 6, 1, 3, 4, 7), ids(pages));
+    }
+
+    @Test
+    void pagesByNameIgnoringCase() {
+        final var pages = pageThrough("name", null, 3);
+
+        assertEquals(List.of(4, 7, 1, 3, 2, 6, 5), ids(pages));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        final var exact = query("age", null, 7, null);
+        final var first = service.query(roster, exact);
+        assertEquals(7, first.employees().size());
+        assertNull(first.nextCursor());
+
+        final var partial = query("id", null, 4, null);
+        final var page = service.query(roster, partial);
+        assertNotNull(page.nextCursor());
+        final var last = service.query(roster, query("id", null, 4, page.nextCursor()));
+        assertEquals(3, last.employees().size());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void pagesMatchAFullSortOfTheFilteredRoster() {
+        final var random = new Random(42);
+        final var employees = new ArrayList<MockEmployee>();
+        for (int number = 1; number <= 500; number++) {
+            employees.add(employee(number, "name" + random.nextInt(50), 100 * random.nextInt(20)));
+        }
+        final var large = new RosterSnapshot(1, List.copyOf(employees));
+        final var expected = employees.stream()
+                .filter(employee -> employee.getSalary() >= 500)
+                .sorted(EmployeeSort.SALARY.comparator(true))
+                .toList();
+
+        for (final var limit : List.of(1, 7, 1000)) {
+            final var paged = new ArrayList<MockEmployee>();
+            String after = null;
+            do {
+                final var query = query("salary", "desc", limit, after);
+                query.setMinSalary(500);
+                final var page = service.query(large, query);
+                paged.addAll(page.employees());
+                after = page.nextCursor();
+            } while (after != null);
+            assertEquals(ids(expected), ids(paged));
+        }
+    }
+
+    @Test
+    void rejectsCursorOfAnotherQuery() {
+        final var cursor = service.query(roster, query("salary", null, 2, null)).nextCursor();
+
+        assertThrows(IllegalArgumentException.class, () -> service.query(roster, query("salary", "desc", 2, cursor)));
+        assertThrows(IllegalArgumentException.class, () -> service.query(roster, query("name", null, 2, cursor)));
+        assertThrows(IllegalArgumentException.class, () -> service.query(roster, query("salary", null, 2, "garbage")));
+    }
+
+    @Test
+    void readersShareThePublishedSnapshot() {
+        final var store = new CountingStore();
+        final var service = service(store, 1000);
+        final var empty = service.snapshot();
+        assertSame(empty, service.snapshot());
+
+        final var amy = service.create(input("Amy"));
+        final var bob = service.create(input("Bob"));
+        final var first = service.snapshot();
+
+        assertNotSame(empty, first);
+        assertSame(first, service.snapshot());
+        assertEquals(service.getVersion(), first.version());
+        assertEquals(List.of(amy, bob), first.employees());
+        assertEquals(0, store.fullCopies);
+    }
+
+    @Test
+    void snapshotIsDerivedFromTheChangeLog() {
+        final var store = new CountingStore();
+        final var service = service(store, 1000);
+        final var amy = service.create(input("Amy"));
+        final var bob = service.create(input("Bob"));
+        final var before = service.snapshot();
+
+        service.deleteById(amy.getId());
+        final var cid = service.create(input("Cid"));
+        final var after = service.snapshot();
+
+        assertEquals(List.of(amy, bob), before.employees());
+        assertEquals(List.of(bob, cid), after.employees());
+        assertEquals(before.version() + 2, after.version());
+        assertEquals(0, store.fullCopies);
+    }
+
+    @Test
+    void copiesTheRosterWhenTheChangeLogNoLongerReachesTheSnapshot() {
+        final var store = new CountingStore();
+        final var service = service(store, 2);
+        final var before = service.snapshot();
+
+        final var amy = service.create(input("Amy"));
+        final var bob = service.create(input("Bob"));
+        final var cid = service.create(input("Cid"));
+        assertTrue(service.changesSince(before.version()).resync());
+
+        final var after = service.snapshot();
+        assertEquals(List.of(amy, bob, cid), after.employees());
+        assertEquals(service.getVersion(), after.version());
+        assertEquals(1, store.fullCopies);
+    }
+
+    @Test
+    void copiesTheRosterWhenTheStoreCannotDeriveIt() {
+        final var store = new CountingStore();
+        store.refuseDeltas = true;
+        final var service = service(store, 1000);
+
+        final var amy = service.create(input("Amy"));
+        final var after = service.snapshot();
+
+        assertEquals(List.of(amy), after.employees());
+        assertEquals(service.getVersion(), after.version());
+        assertEquals(1, store.fullCopies);
+        assertSame(after, service.snapshot());
+    }
+
+    /*
+     * Writers create and delete while readers take snapshots. Replaying the change log afterwards gives the roster at
+     * every version, and each snapshot a reader saw must be exactly the roster at its version.
+     */
+    @Test
+    void snapshotsAreConsistentWithConcurrentWrites() throws Exception {
+        final var service = new MockEmployeeService(new Faker(), new IndexedEmployeeStore(), 1000, 100_000);
+        final var since = service.getVersion();
+        final var writers = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        final var start = new CountDownLatch(1);
+        final var writing = new CountDownLatch(writers);
+        try {
+            for (var writer = 0; writer < writers; writer++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        MockEmployee last = null;
+                        for (var i = 0; i < 2_000; i++) {
+                            if (i % 3 == 2) {
+                                service.deleteById(last.getId());
+                            } else {
+                                last = service.create(input("Name" + i % 11));
+                            }
+                        }
+                    } finally {
+                        writing.countDown();
+                    }
+                    return null;
+                });
+            }
+            final var seen = new ArrayList<Future<List<RosterSnapshot>>>();
+            for (var reader = 0; reader < 2; reader++) {
+                seen.add(executor.submit(() -> {
+                    start.await();
+                    final var snapshots = new ArrayList<RosterSnapshot>();
+                    var version = since;
+                    while (writing.getCount() > 0) {
+                        final var snapshot = service.snapshot();
+                        assertTrue(snapshot.version() >= version);
+                        if (snapshot.version() > version && snapshots.size() < 500) {
+                            snapshots.add(snapshot);
+                        }
+                        version = snapshot.version();
+                    }
+                    return snapshots;
+                }));
+            }
+            start.countDown();
+
+            final var snapshots = new ArrayList<RosterSnapshot>();
+            for (final var future : seen) {
+                snapshots.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            snapshots.add(service.snapshot());
+            snapshots.sort(Comparator.comparingLong(RosterSnapshot::version));
+
+            final var changes = service.changesSince(since);
+            assertFalse(changes.resync());
+            assertEquals(writers * 2_000, changes.changes().size());
+            final var roster = new LinkedHashMap<UUID, MockEmployee>();
+            final var replay = changes.changes().iterator();
+            var applied = since;
+            for (final var snapshot : snapshots) {
+                while (applied < snapshot.version()) {
+                    final var change = replay.next();
+                    if (change.type() == EmployeeChange.Type.CREATED) {
+                        roster.put(change.employee().getId(), change.employee());
+                    } else {
+                        roster.remove(change.employee().getId());
+                    }
+                    applied = change.version();
+                }
+                assertEquals(List.copyOf(roster.values()), snapshot.employees(), "snapshot v" + snapshot.version());
+            }
+            assertEquals(service.getVersion(), applied);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<MockEmployee> pageThrough(String sort, String order, int limit) {
+        final var employees = new ArrayList<MockEmployee>();
+        String after = null;
+        do {
+            final var page = service.query(roster, query(sort, order, limit, after));
+            assertTrue(page.employees().size() <= limit);
+            employees.addAll(page.employees());
+            after = page.nextCursor();
+        } while (after != null);
+        return employees;
+    }
+
+    private static EmployeeQuery query(String sort, String order, Integer limit, String after) {
+        final var query = new EmployeeQuery();
+        query.setSort(sort);
+        query.setOrder(order);
+        query.setLimit(limit);
+        query.setAfter(after);
+        return query;
+    }
+
+    private static MockEmployee employee(int number, String name, Integer salary) {
+        return MockEmployee.builder()
+                .id(new UUID(0, number))
+                .name(name)
+                .salary(salary)
+                .age(20 + number)
+                .build();
+    }
+
+    private static List<Integer> ids(List<MockEmployee> employees) {
+        return employees.stream()
+                .map(employee -> (int) employee.getId().getLeastSignificantBits())
+                .toList();
+    }
+
+    /*
+     * The service copies the store once to publish its first snapshot; only the copies after that are counted.
+     */
+    private static MockEmployeeService service(CountingStore store, int changeLogSize) {
+        final var service = new MockEmployeeService(new Faker(), store, 1000, changeLogSize);
+        store.fullCopies = 0;
+        return service;
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(1000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    /*
+     * Counts full roster copies, and can refuse to derive a snapshot from a delta like a compacted columnar store.
+     */
+    private static final class CountingStore extends IndexedEmployeeStore {
+
+        private int fullCopies;
+
+        private boolean refuseDeltas;
+
+        @Override
+        public List<MockEmployee> snapshot() {
+            fullCopies++;
+            return super.snapshot();
+        }
+
+        @Override
+        public Optional<List<MockEmployee>> snapshot(List<MockEmployee> previous, List<EmployeeChange> changes) {
+            return refuseDeltas ? Optional.empty() : super.snapshot(previous, changes);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketRequestLimitInterceptorTest {
+
+    /*
+     * Fake nanoTime; starts far from zero so that nothing relies on the clock being positive.
+     */
+    private long now = Long.MAX_VALUE - TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRejects() {
+        final var limiter = limiter(2, 3, 100);
+
+        for (var remaining = 2; remaining >= 0; remaining--) {
+            final var response = request(limiter, "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertEquals("3", response.getHeader(TokenBucketRequestLimitInterceptor.LIMIT_HEADER));
+            assertEquals(
+                    String.valueOf(remaining), response.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+            assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+        }
+
+        final var rejected = request(limiter, "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("0", rejected.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("2", rejected.getHeader(TokenBucketRequestLimitInterceptor.RESET_HEADER));
+    }
+
+    @Test
+    void refillsAtRate() {
+        final var limiter = limiter(2, 3, 100);
+        for (var i = 0; i < 3; i++) {
+            request(limiter, "10.0.0.1");
+        }
+
+        advance(TimeUnit.MILLISECONDS.toNanos(499));
+        assertEquals(429, request(limiter, "10.0.0.1").getStatus());
+
+        advance(TimeUnit.MILLISECONDS.toNanos(1));
+        final var refilled = request(limiter, "10.0.0.1");
+        assertEquals(200, refilled.getStatus());
+        assertEquals("0", refilled.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+
+        advance(TimeUnit.SECONDS.toNanos(60));
+        final var full = request(limiter, "10.0.0.1");
+        assertEquals("2", full.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals("1", full.getHeader(TokenBucketRequestLimitInterceptor.RESET_HEADER));
+    }
+
+    @Test
+    void retryAfterCountsDownToNextToken() {
+        final var limiter = limiter(0.25, 1, 100);
+        assertEquals(200, request(limiter, "10.0.0.1").getStatus());
+
+        assertEquals("4", request(limiter, "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER));
+        advance(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertEquals("3", request(limiter, "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER));
+        advance(TimeUnit.MILLISECONDS.toNanos(2500));
+        assertEquals(200, request(limiter, "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void keepsSeparateBucketsPerClient() {
+        final var limiter = limiter(1, 1, 100);
+
+        assertEquals(200, request(limiter, "10.0.0.1").getStatus());
+        assertEquals(429, request(limiter, "10.0.0.1").getStatus());
+        assertEquals(200, request(limiter, "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        final var limiter = limiter(1, 1, 2);
+        request(limiter, "10.0.0.1");
+        request(limiter, "10.0.0.2");
+
+        // Neither bucket has refilled yet, so both are kept and still limit their clients.
+        request(limiter, "10.0.0.3");
+        assertEquals(3, limiter.bucketCount());
+        assertEquals(429, request(limiter, "10.0.0.1").getStatus());
+
+        advance(TimeUnit.SECONDS.toNanos(2));
+        request(limiter, "10.0.0.4");
+        assertEquals(1, limiter.bucketCount());
+        assertEquals(200, request(limiter, "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> limiter(1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> limiter(1, 1, 0));
+    }
+
+    private TokenBucketRequestLimitInterceptor limiter(double rate, int burst, int maxBuckets) {
+        return new TokenBucketRequestLimitInterceptor(
+                TokenBucketRequestLimitInterceptor.Key.CLIENT, rate, burst, maxBuckets, () -> now);
+    }
+
+    private void advance(long nanos) {
+        now += nanos;
+    }
+
+    private static MockHttpServletResponse request(TokenBucketRequestLimitInterceptor limiter, String client) {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(client);
+        final var response = new MockHttpServletResponse();
+        final var allowed = limiter.preHandle(request, response, new Object());
+        assertEquals(allowed, response.getStatus() == 200);
+        return response;
+    }
+}